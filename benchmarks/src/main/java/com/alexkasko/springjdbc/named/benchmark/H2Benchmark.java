@@ -0,0 +1,91 @@
+package com.alexkasko.springjdbc.named.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping benchmarks with {@code JdbcTemplate} queries to in-memory H2 database.
+ * Single operation runs query returning {@code rows} rows, divide results by {@code rows} to get per-row numbers.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class H2Benchmark {
+
+    @State(Scope.Thread)
+    public static class H2State {
+        @Param({"1000", "100000"})
+        public int rows;
+        JdbcTemplate jt;
+        String sql;
+        private SingleConnectionDataSource ds;
+
+        @Setup
+        public void setupDatabase(MappersState params) {
+            ds = new SingleConnectionDataSource("jdbc:h2:mem:", true);
+            ds.setDriverClassName("org.h2.Driver");
+            jt = new JdbcTemplate(ds);
+            StringBuilder ddl = new StringBuilder("create table bench(disc varchar(10)");
+            StringBuilder insert = new StringBuilder("insert into bench values(?");
+            for(int j = 1; j <= 16; j++) {
+                ddl.append(", c").append(j).append(" bigint");
+                insert.append(", ?");
+            }
+            jt.update(ddl.append(")").toString());
+            String insertSql = insert.append(")").toString();
+            for(int i = 0; i < rows; i++) {
+                Object[] row = new Object[17];
+                row[0] = MappersState.DISC_VALUE;
+                for(int j = 1; j <= 16; j++) {
+                    row[j] = (long) i * j;
+                }
+                jt.update(insertSql, row);
+            }
+            sql = "select " + params.selectList() + " from bench";
+        }
+
+        @TearDown
+        public void closeDatabase() {
+            ds.destroy();
+        }
+    }
+
+    @Benchmark
+    public void named(MappersState params, H2State state, Blackhole bh) {
+        query(state, params.named, bh);
+    }
+
+    @Benchmark
+    public void namedSubclasses(MappersState params, H2State state, Blackhole bh) {
+        query(state, params.subclasses, bh);
+    }
+
+    @Benchmark
+    public void beanProperty(MappersState params, H2State state, Blackhole bh) {
+        query(state, params.beanProperty, bh);
+    }
+
+    @Benchmark
+    public void columnMap(MappersState params, H2State state, Blackhole bh) {
+        query(state, params.columnMap, bh);
+    }
+
+    @Benchmark
+    public void handWritten(MappersState params, H2State state, Blackhole bh) {
+        query(state, params.handWritten, bh);
+    }
+
+    private static void query(H2State state, RowMapper<?> mapper, Blackhole bh) {
+        bh.consume(state.jt.query(state.sql, mapper));
+    }
+}
@@ -0,0 +1,88 @@
+package com.alexkasko.springjdbc.named.benchmark;
+
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Hand-written row mappers, baseline for benchmarks
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class HandWrittenMappers {
+
+    static final RowMapper<Rows.PrimitiveRow4> PRIMITIVE_4 = new RowMapper<Rows.PrimitiveRow4>() {
+        @Override
+        public Rows.PrimitiveRow4 mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Rows.PrimitiveRow4(
+                    rs.getLong("c1"),
+                    rs.getLong("c2"),
+                    rs.getLong("c3"),
+                    rs.getLong("c4"));
+        }
+    };
+
+    static final RowMapper<Rows.PrimitiveRow16> PRIMITIVE_16 = new RowMapper<Rows.PrimitiveRow16>() {
+        @Override
+        public Rows.PrimitiveRow16 mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Rows.PrimitiveRow16(
+                    rs.getLong("c1"),
+                    rs.getLong("c2"),
+                    rs.getLong("c3"),
+                    rs.getLong("c4"),
+                    rs.getLong("c5"),
+                    rs.getLong("c6"),
+                    rs.getLong("c7"),
+                    rs.getLong("c8"),
+                    rs.getLong("c9"),
+                    rs.getLong("c10"),
+                    rs.getLong("c11"),
+                    rs.getLong("c12"),
+                    rs.getLong("c13"),
+                    rs.getLong("c14"),
+                    rs.getLong("c15"),
+                    rs.getLong("c16"));
+        }
+    };
+
+    static final RowMapper<Rows.BoxedRow4> BOXED_4 = new RowMapper<Rows.BoxedRow4>() {
+        @Override
+        public Rows.BoxedRow4 mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Rows.BoxedRow4(
+                    boxed(rs, "c1"),
+                    boxed(rs, "c2"),
+                    boxed(rs, "c3"),
+                    boxed(rs, "c4"));
+        }
+    };
+
+    static final RowMapper<Rows.BoxedRow16> BOXED_16 = new RowMapper<Rows.BoxedRow16>() {
+        @Override
+        public Rows.BoxedRow16 mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Rows.BoxedRow16(
+                    boxed(rs, "c1"),
+                    boxed(rs, "c2"),
+                    boxed(rs, "c3"),
+                    boxed(rs, "c4"),
+                    boxed(rs, "c5"),
+                    boxed(rs, "c6"),
+                    boxed(rs, "c7"),
+                    boxed(rs, "c8"),
+                    boxed(rs, "c9"),
+                    boxed(rs, "c10"),
+                    boxed(rs, "c11"),
+                    boxed(rs, "c12"),
+                    boxed(rs, "c13"),
+                    boxed(rs, "c14"),
+                    boxed(rs, "c15"),
+                    boxed(rs, "c16"));
+        }
+    };
+
+    private static Long boxed(ResultSet rs, String column) throws SQLException {
+        long res = rs.getLong(column);
+        return rs.wasNull() ? null : res;
+    }
+}
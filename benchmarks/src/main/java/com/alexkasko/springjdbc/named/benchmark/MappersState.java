@@ -0,0 +1,77 @@
+package com.alexkasko.springjdbc.named.benchmark;
+
+import com.alexkasko.springjdbc.named.NamedConstructorMapper;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.BeanPropertyRowMapper;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.RowMapper;
+
+/**
+ * Benchmark parameters and mappers to compare. Result sets contain discriminator column {@code disc}
+ * with {@code row} value and {@code columns} {@code BIGINT} columns named {@code c1..cN}.
+ * Rows counts are declared by result set states of each benchmark.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+@State(Scope.Benchmark)
+public class MappersState {
+    static final String DISC_COLUMN = "disc";
+    static final String DISC_VALUE = "row";
+
+    @Param({"4", "16"})
+    public int columns;
+    @Param({"1", "4"})
+    public int constructors;
+    @Param({"false", "true"})
+    public boolean boxed;
+
+    RowMapper<?> named;
+    RowMapper<?> subclasses;
+    RowMapper<?> beanProperty;
+    RowMapper<?> columnMap;
+    RowMapper<?> handWritten;
+
+    @Setup
+    public void setupMappers() {
+        Class<?> rowClass = rowClass();
+        named = NamedConstructorMapper.forClass(rowClass);
+        subclasses = NamedConstructorMapper.builder(DISC_COLUMN)
+                .addSubclass(DISC_VALUE, rowClass)
+                .build();
+        beanProperty = new BeanPropertyRowMapper<Object>(beanClass());
+        columnMap = new ColumnMapRowMapper();
+        handWritten = handWrittenMapper();
+    }
+
+    /**
+     * @return comma-separated columns list for select query
+     */
+    String selectList() {
+        StringBuilder sb = new StringBuilder(DISC_COLUMN);
+        for(int i = 1; i <= columns; i++) {
+            sb.append(", c").append(i);
+        }
+        return sb.toString();
+    }
+
+    private Class<?> rowClass() {
+        if(constructors > 1) return boxed ? Rows.BoxedMultiRow.class : Rows.PrimitiveMultiRow.class;
+        if(4 == columns) return boxed ? Rows.BoxedRow4.class : Rows.PrimitiveRow4.class;
+        return boxed ? Rows.BoxedRow16.class : Rows.PrimitiveRow16.class;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<Object> beanClass() {
+        if(4 == columns) return (Class) (boxed ? Rows.BoxedBean4.class : Rows.PrimitiveBean4.class);
+        return (Class) (boxed ? Rows.BoxedBean16.class : Rows.PrimitiveBean16.class);
+    }
+
+    private RowMapper<?> handWrittenMapper() {
+        if(4 == columns) return boxed ? HandWrittenMappers.BOXED_4 : HandWrittenMappers.PRIMITIVE_4;
+        return boxed ? HandWrittenMappers.BOXED_16 : HandWrittenMappers.PRIMITIVE_16;
+    }
+}
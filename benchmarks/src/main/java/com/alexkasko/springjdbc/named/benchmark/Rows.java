@@ -0,0 +1,697 @@
+package com.alexkasko.springjdbc.named.benchmark;
+
+import javax.inject.Named;
+
+/**
+ * Row classes used in benchmarks: immutable classes with named constructors
+ * and beans for {@code BeanPropertyRowMapper}.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+public class Rows {
+
+    public static class PrimitiveRow4 {
+        private final long c1;
+        private final long c2;
+        private final long c3;
+        private final long c4;
+
+        public PrimitiveRow4(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+        }
+    }
+
+    public static class PrimitiveRow16 {
+        private final long c1;
+        private final long c2;
+        private final long c3;
+        private final long c4;
+        private final long c5;
+        private final long c6;
+        private final long c7;
+        private final long c8;
+        private final long c9;
+        private final long c10;
+        private final long c11;
+        private final long c12;
+        private final long c13;
+        private final long c14;
+        private final long c15;
+        private final long c16;
+
+        public PrimitiveRow16(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4,
+                @Named("c5") long c5, @Named("c6") long c6, @Named("c7") long c7, @Named("c8") long c8,
+                @Named("c9") long c9, @Named("c10") long c10, @Named("c11") long c11, @Named("c12") long c12,
+                @Named("c13") long c13, @Named("c14") long c14, @Named("c15") long c15, @Named("c16") long c16) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = c13;
+            this.c14 = c14;
+            this.c15 = c15;
+            this.c16 = c16;
+        }
+    }
+
+    public static class PrimitiveMultiRow {
+        private final long c1;
+        private final long c2;
+        private final long c3;
+        private final long c4;
+        private final long c5;
+        private final long c6;
+        private final long c7;
+        private final long c8;
+        private final long c9;
+        private final long c10;
+        private final long c11;
+        private final long c12;
+        private final long c13;
+        private final long c14;
+        private final long c15;
+        private final long c16;
+
+        public PrimitiveMultiRow(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4,
+                @Named("c5") long c5, @Named("c6") long c6, @Named("c7") long c7, @Named("c8") long c8,
+                @Named("c9") long c9, @Named("c10") long c10, @Named("c11") long c11, @Named("c12") long c12,
+                @Named("c13") long c13, @Named("c14") long c14, @Named("c15") long c15, @Named("c16") long c16) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = c13;
+            this.c14 = c14;
+            this.c15 = c15;
+            this.c16 = c16;
+        }
+
+        public PrimitiveMultiRow(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4,
+                @Named("c5") long c5, @Named("c6") long c6, @Named("c7") long c7, @Named("c8") long c8,
+                @Named("c9") long c9, @Named("c10") long c10, @Named("c11") long c11, @Named("c12") long c12) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = 0;
+            this.c14 = 0;
+            this.c15 = 0;
+            this.c16 = 0;
+        }
+
+        public PrimitiveMultiRow(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4,
+                @Named("c5") long c5, @Named("c6") long c6, @Named("c7") long c7, @Named("c8") long c8) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = 0;
+            this.c10 = 0;
+            this.c11 = 0;
+            this.c12 = 0;
+            this.c13 = 0;
+            this.c14 = 0;
+            this.c15 = 0;
+            this.c16 = 0;
+        }
+
+        public PrimitiveMultiRow(@Named("c1") long c1, @Named("c2") long c2, @Named("c3") long c3, @Named("c4") long c4) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = 0;
+            this.c6 = 0;
+            this.c7 = 0;
+            this.c8 = 0;
+            this.c9 = 0;
+            this.c10 = 0;
+            this.c11 = 0;
+            this.c12 = 0;
+            this.c13 = 0;
+            this.c14 = 0;
+            this.c15 = 0;
+            this.c16 = 0;
+        }
+    }
+
+    public static class BoxedRow4 {
+        private final Long c1;
+        private final Long c2;
+        private final Long c3;
+        private final Long c4;
+
+        public BoxedRow4(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+        }
+    }
+
+    public static class BoxedRow16 {
+        private final Long c1;
+        private final Long c2;
+        private final Long c3;
+        private final Long c4;
+        private final Long c5;
+        private final Long c6;
+        private final Long c7;
+        private final Long c8;
+        private final Long c9;
+        private final Long c10;
+        private final Long c11;
+        private final Long c12;
+        private final Long c13;
+        private final Long c14;
+        private final Long c15;
+        private final Long c16;
+
+        public BoxedRow16(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4,
+                @Named("c5") Long c5, @Named("c6") Long c6, @Named("c7") Long c7, @Named("c8") Long c8,
+                @Named("c9") Long c9, @Named("c10") Long c10, @Named("c11") Long c11, @Named("c12") Long c12,
+                @Named("c13") Long c13, @Named("c14") Long c14, @Named("c15") Long c15, @Named("c16") Long c16) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = c13;
+            this.c14 = c14;
+            this.c15 = c15;
+            this.c16 = c16;
+        }
+    }
+
+    public static class BoxedMultiRow {
+        private final Long c1;
+        private final Long c2;
+        private final Long c3;
+        private final Long c4;
+        private final Long c5;
+        private final Long c6;
+        private final Long c7;
+        private final Long c8;
+        private final Long c9;
+        private final Long c10;
+        private final Long c11;
+        private final Long c12;
+        private final Long c13;
+        private final Long c14;
+        private final Long c15;
+        private final Long c16;
+
+        public BoxedMultiRow(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4,
+                @Named("c5") Long c5, @Named("c6") Long c6, @Named("c7") Long c7, @Named("c8") Long c8,
+                @Named("c9") Long c9, @Named("c10") Long c10, @Named("c11") Long c11, @Named("c12") Long c12,
+                @Named("c13") Long c13, @Named("c14") Long c14, @Named("c15") Long c15, @Named("c16") Long c16) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = c13;
+            this.c14 = c14;
+            this.c15 = c15;
+            this.c16 = c16;
+        }
+
+        public BoxedMultiRow(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4,
+                @Named("c5") Long c5, @Named("c6") Long c6, @Named("c7") Long c7, @Named("c8") Long c8,
+                @Named("c9") Long c9, @Named("c10") Long c10, @Named("c11") Long c11, @Named("c12") Long c12) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = c9;
+            this.c10 = c10;
+            this.c11 = c11;
+            this.c12 = c12;
+            this.c13 = null;
+            this.c14 = null;
+            this.c15 = null;
+            this.c16 = null;
+        }
+
+        public BoxedMultiRow(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4,
+                @Named("c5") Long c5, @Named("c6") Long c6, @Named("c7") Long c7, @Named("c8") Long c8) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = c5;
+            this.c6 = c6;
+            this.c7 = c7;
+            this.c8 = c8;
+            this.c9 = null;
+            this.c10 = null;
+            this.c11 = null;
+            this.c12 = null;
+            this.c13 = null;
+            this.c14 = null;
+            this.c15 = null;
+            this.c16 = null;
+        }
+
+        public BoxedMultiRow(@Named("c1") Long c1, @Named("c2") Long c2, @Named("c3") Long c3, @Named("c4") Long c4) {
+            this.c1 = c1;
+            this.c2 = c2;
+            this.c3 = c3;
+            this.c4 = c4;
+            this.c5 = null;
+            this.c6 = null;
+            this.c7 = null;
+            this.c8 = null;
+            this.c9 = null;
+            this.c10 = null;
+            this.c11 = null;
+            this.c12 = null;
+            this.c13 = null;
+            this.c14 = null;
+            this.c15 = null;
+            this.c16 = null;
+        }
+    }
+
+    public static class PrimitiveBean4 {
+        private long c1;
+        private long c2;
+        private long c3;
+        private long c4;
+
+        public long getC1() {
+            return c1;
+        }
+
+        public void setC1(long c1) {
+            this.c1 = c1;
+        }
+
+        public long getC2() {
+            return c2;
+        }
+
+        public void setC2(long c2) {
+            this.c2 = c2;
+        }
+
+        public long getC3() {
+            return c3;
+        }
+
+        public void setC3(long c3) {
+            this.c3 = c3;
+        }
+
+        public long getC4() {
+            return c4;
+        }
+
+        public void setC4(long c4) {
+            this.c4 = c4;
+        }
+    }
+
+    public static class PrimitiveBean16 {
+        private long c1;
+        private long c2;
+        private long c3;
+        private long c4;
+        private long c5;
+        private long c6;
+        private long c7;
+        private long c8;
+        private long c9;
+        private long c10;
+        private long c11;
+        private long c12;
+        private long c13;
+        private long c14;
+        private long c15;
+        private long c16;
+
+        public long getC1() {
+            return c1;
+        }
+
+        public void setC1(long c1) {
+            this.c1 = c1;
+        }
+
+        public long getC2() {
+            return c2;
+        }
+
+        public void setC2(long c2) {
+            this.c2 = c2;
+        }
+
+        public long getC3() {
+            return c3;
+        }
+
+        public void setC3(long c3) {
+            this.c3 = c3;
+        }
+
+        public long getC4() {
+            return c4;
+        }
+
+        public void setC4(long c4) {
+            this.c4 = c4;
+        }
+
+        public long getC5() {
+            return c5;
+        }
+
+        public void setC5(long c5) {
+            this.c5 = c5;
+        }
+
+        public long getC6() {
+            return c6;
+        }
+
+        public void setC6(long c6) {
+            this.c6 = c6;
+        }
+
+        public long getC7() {
+            return c7;
+        }
+
+        public void setC7(long c7) {
+            this.c7 = c7;
+        }
+
+        public long getC8() {
+            return c8;
+        }
+
+        public void setC8(long c8) {
+            this.c8 = c8;
+        }
+
+        public long getC9() {
+            return c9;
+        }
+
+        public void setC9(long c9) {
+            this.c9 = c9;
+        }
+
+        public long getC10() {
+            return c10;
+        }
+
+        public void setC10(long c10) {
+            this.c10 = c10;
+        }
+
+        public long getC11() {
+            return c11;
+        }
+
+        public void setC11(long c11) {
+            this.c11 = c11;
+        }
+
+        public long getC12() {
+            return c12;
+        }
+
+        public void setC12(long c12) {
+            this.c12 = c12;
+        }
+
+        public long getC13() {
+            return c13;
+        }
+
+        public void setC13(long c13) {
+            this.c13 = c13;
+        }
+
+        public long getC14() {
+            return c14;
+        }
+
+        public void setC14(long c14) {
+            this.c14 = c14;
+        }
+
+        public long getC15() {
+            return c15;
+        }
+
+        public void setC15(long c15) {
+            this.c15 = c15;
+        }
+
+        public long getC16() {
+            return c16;
+        }
+
+        public void setC16(long c16) {
+            this.c16 = c16;
+        }
+    }
+
+    public static class BoxedBean4 {
+        private Long c1;
+        private Long c2;
+        private Long c3;
+        private Long c4;
+
+        public Long getC1() {
+            return c1;
+        }
+
+        public void setC1(Long c1) {
+            this.c1 = c1;
+        }
+
+        public Long getC2() {
+            return c2;
+        }
+
+        public void setC2(Long c2) {
+            this.c2 = c2;
+        }
+
+        public Long getC3() {
+            return c3;
+        }
+
+        public void setC3(Long c3) {
+            this.c3 = c3;
+        }
+
+        public Long getC4() {
+            return c4;
+        }
+
+        public void setC4(Long c4) {
+            this.c4 = c4;
+        }
+    }
+
+    public static class BoxedBean16 {
+        private Long c1;
+        private Long c2;
+        private Long c3;
+        private Long c4;
+        private Long c5;
+        private Long c6;
+        private Long c7;
+        private Long c8;
+        private Long c9;
+        private Long c10;
+        private Long c11;
+        private Long c12;
+        private Long c13;
+        private Long c14;
+        private Long c15;
+        private Long c16;
+
+        public Long getC1() {
+            return c1;
+        }
+
+        public void setC1(Long c1) {
+            this.c1 = c1;
+        }
+
+        public Long getC2() {
+            return c2;
+        }
+
+        public void setC2(Long c2) {
+            this.c2 = c2;
+        }
+
+        public Long getC3() {
+            return c3;
+        }
+
+        public void setC3(Long c3) {
+            this.c3 = c3;
+        }
+
+        public Long getC4() {
+            return c4;
+        }
+
+        public void setC4(Long c4) {
+            this.c4 = c4;
+        }
+
+        public Long getC5() {
+            return c5;
+        }
+
+        public void setC5(Long c5) {
+            this.c5 = c5;
+        }
+
+        public Long getC6() {
+            return c6;
+        }
+
+        public void setC6(Long c6) {
+            this.c6 = c6;
+        }
+
+        public Long getC7() {
+            return c7;
+        }
+
+        public void setC7(Long c7) {
+            this.c7 = c7;
+        }
+
+        public Long getC8() {
+            return c8;
+        }
+
+        public void setC8(Long c8) {
+            this.c8 = c8;
+        }
+
+        public Long getC9() {
+            return c9;
+        }
+
+        public void setC9(Long c9) {
+            this.c9 = c9;
+        }
+
+        public Long getC10() {
+            return c10;
+        }
+
+        public void setC10(Long c10) {
+            this.c10 = c10;
+        }
+
+        public Long getC11() {
+            return c11;
+        }
+
+        public void setC11(Long c11) {
+            this.c11 = c11;
+        }
+
+        public Long getC12() {
+            return c12;
+        }
+
+        public void setC12(Long c12) {
+            this.c12 = c12;
+        }
+
+        public Long getC13() {
+            return c13;
+        }
+
+        public void setC13(Long c13) {
+            this.c13 = c13;
+        }
+
+        public Long getC14() {
+            return c14;
+        }
+
+        public void setC14(Long c14) {
+            this.c14 = c14;
+        }
+
+        public Long getC15() {
+            return c15;
+        }
+
+        public void setC15(Long c15) {
+            this.c15 = c15;
+        }
+
+        public Long getC16() {
+            return c16;
+        }
+
+        public void setC16(Long c16) {
+            this.c16 = c16;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.alexkasko.springjdbc.named.benchmark;
+
+import org.h2.tools.SimpleResultSet;
+import org.h2.tools.SimpleRowSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping benchmarks on in-memory result set without JDBC driver overhead.
+ * Single operation maps all {@code rows} rows, divide results by {@code rows} to get per-row numbers.
+ * {@code *Fresh} benchmarks map new result set in each operation (like short queries do), so mapping plans
+ * are created for each result set, results include result set creation.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StubResultSetBenchmark {
+
+    @State(Scope.Thread)
+    public static class StubState {
+        @Param({"1000", "100000"})
+        public int rows;
+        ResultSet rs;
+
+        @Setup
+        public void setupResultSet(MappersState params) {
+            SimpleResultSet srs = resultSet(data(rows, params.columns), params.columns);
+            srs.setAutoClose(false);
+            rs = srs;
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class FreshState {
+        @Param({"1", "10", "1000"})
+        public int rows;
+        Object[][] data;
+        int columns;
+
+        @Setup
+        public void setupData(MappersState params) {
+            data = data(rows, params.columns);
+            columns = params.columns;
+        }
+
+        ResultSet newResultSet() {
+            return resultSet(data, columns);
+        }
+    }
+
+    @Benchmark
+    public void named(MappersState params, StubState state, Blackhole bh) throws SQLException {
+        map(state.rs, params.named, bh);
+    }
+
+    @Benchmark
+    public void namedSubclasses(MappersState params, StubState state, Blackhole bh) throws SQLException {
+        map(state.rs, params.subclasses, bh);
+    }
+
+    @Benchmark
+    public void beanProperty(MappersState params, StubState state, Blackhole bh) throws SQLException {
+        map(state.rs, params.beanProperty, bh);
+    }
+
+    @Benchmark
+    public void columnMap(MappersState params, StubState state, Blackhole bh) throws SQLException {
+        map(state.rs, params.columnMap, bh);
+    }
+
+    @Benchmark
+    public void handWritten(MappersState params, StubState state, Blackhole bh) throws SQLException {
+        map(state.rs, params.handWritten, bh);
+    }
+
+    @Benchmark
+    public void namedFresh(MappersState params, FreshState state, Blackhole bh) throws SQLException {
+        map(state.newResultSet(), params.named, bh);
+    }
+
+    @Benchmark
+    public void namedSubclassesFresh(MappersState params, FreshState state, Blackhole bh) throws SQLException {
+        map(state.newResultSet(), params.subclasses, bh);
+    }
+
+    @Benchmark
+    public void beanPropertyFresh(MappersState params, FreshState state, Blackhole bh) throws SQLException {
+        map(state.newResultSet(), params.beanProperty, bh);
+    }
+
+    @Benchmark
+    public void columnMapFresh(MappersState params, FreshState state, Blackhole bh) throws SQLException {
+        map(state.newResultSet(), params.columnMap, bh);
+    }
+
+    @Benchmark
+    public void handWrittenFresh(MappersState params, FreshState state, Blackhole bh) throws SQLException {
+        map(state.newResultSet(), params.handWritten, bh);
+    }
+
+    private static Object[][] data(int rows, int columns) {
+        Object[][] data = new Object[rows][];
+        for(int i = 0; i < rows; i++) {
+            Object[] row = new Object[columns + 1];
+            row[0] = MappersState.DISC_VALUE;
+            for(int j = 1; j <= columns; j++) {
+                row[j] = (long) i * j;
+            }
+            data[i] = row;
+        }
+        return data;
+    }
+
+    private static SimpleResultSet resultSet(Object[][] data, int columns) {
+        SimpleResultSet srs = new SimpleResultSet(new ArraySource(data));
+        srs.addColumn(MappersState.DISC_COLUMN, Types.VARCHAR, 10, 0);
+        for(int j = 1; j <= columns; j++) {
+            srs.addColumn("c" + j, Types.BIGINT, 19, 0);
+        }
+        return srs;
+    }
+
+    private static void map(ResultSet rs, RowMapper<?> mapper, Blackhole bh) throws SQLException {
+        rs.beforeFirst();
+        int rowNum = 0;
+        while(rs.next()) {
+            bh.consume(mapper.mapRow(rs, rowNum++));
+        }
+    }
+
+    private static class ArraySource implements SimpleRowSource {
+        private final Object[][] data;
+        private int index = 0;
+
+        private ArraySource(Object[][] data) {
+            this.data = data;
+        }
+
+        @Override
+        public Object[] readRow() {
+            return index < data.length ? data[index++] : null;
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+
+        @Override
+        public void reset() {
+            index = 0;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.alexkasko.springjdbc.named.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Annotation processor generating named constructors metadata classes for classes having constructors
+ * with all arguments annotated with JSR330 {@code @Named} annotations. Generated class
+ * {@code <class binary name>_NamedConstructors} extends {@code GeneratedNamedConstructors},
+ * contains {@code @Named} values and parameter types of named constructors and invokes them directly,
+ * {@code NamedConstructorMapper} uses it instead of reflection introspection.
+ * Classes not accessible from the same package (private classes or private named constructors),
+ * non-static inner classes, abstract and generic classes and classes with inconsistent {@code @Named}
+ * annotations (e.g. constructors with DI qualifiers) are skipped, runtime introspection is used for them.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+@SupportedAnnotationTypes("*")
+public class NamedConstructorsProcessor extends AbstractProcessor {
+    private static final String NAMED = "javax.inject.Named";
+    private static final String BASE = "com.alexkasko.springjdbc.named.GeneratedNamedConstructors";
+    private static final String SUFFIX = "_NamedConstructors";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for(TypeElement te : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            processType(te);
+        }
+        // annotations are not claimed
+        return false;
+    }
+
+    private void processType(TypeElement te) {
+        for(TypeElement nested : ElementFilter.typesIn(te.getEnclosedElements())) {
+            processType(nested);
+        }
+        if(ElementKind.CLASS != te.getKind()) return;
+        List<ExecutableElement> named = new ArrayList<ExecutableElement>();
+        List<List<String>> names = new ArrayList<List<String>>();
+        for(ExecutableElement co : ElementFilter.constructorsIn(te.getEnclosedElements())) {
+            List<String> coNames = extractNames(co);
+            if(null == coNames) return;
+            if(coNames.isEmpty()) continue;
+            named.add(co);
+            names.add(coNames);
+        }
+        if(named.isEmpty() || !isAccessible(te, named)) return;
+        try {
+            writeSource(te, named, names);
+        } catch(IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                    "Cannot write named constructors metadata: " + e, te);
+        }
+    }
+
+    // returns null on inconsistent annotations
+    private List<String> extractNames(ExecutableElement co) {
+        List<String> res = new ArrayList<String>();
+        Set<String> unique = new HashSet<String>();
+        for(VariableElement param : co.getParameters()) {
+            for(AnnotationMirror am : param.getAnnotationMirrors()) {
+                if(!NAMED.equals(((TypeElement) am.getAnnotationType().asElement()).getQualifiedName().toString())) continue;
+                String value = "";
+                for(Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> en : am.getElementValues().entrySet()) {
+                    if("value".equals(en.getKey().getSimpleName().toString())) value = String.valueOf(en.getValue().getValue());
+                }
+                String lower = value.toLowerCase(Locale.ENGLISH);
+                if(0 == value.trim().length() || !unique.add(lower)) return null;
+                res.add(lower);
+            }
+        }
+        if(!(res.isEmpty() || res.size() == co.getParameters().size())) return null;
+        return res;
+    }
+
+    private boolean isAccessible(TypeElement te, List<ExecutableElement> constructors) {
+        if(te.getModifiers().contains(Modifier.ABSTRACT) || !te.getTypeParameters().isEmpty()) return false;
+        for(Element el = te; el instanceof TypeElement; el = el.getEnclosingElement()) {
+            if(el.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if(el.getEnclosingElement() instanceof TypeElement && !el.getModifiers().contains(Modifier.STATIC)) return false;
+        }
+        for(ExecutableElement co : constructors) {
+            if(co.getModifiers().contains(Modifier.PRIVATE)) return false;
+        }
+        return true;
+    }
+
+    private void writeSource(TypeElement te, List<ExecutableElement> constructors, List<List<String>> names) throws IOException {
+        String pack = processingEnv.getElementUtils().getPackageOf(te).getQualifiedName().toString();
+        String binary = processingEnv.getElementUtils().getBinaryName(te).toString();
+        String simple = (pack.length() > 0 ? binary.substring(pack.length() + 1) : binary) + SUFFIX;
+        String target = te.getQualifiedName().toString();
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(binary + SUFFIX, te);
+        Writer writer = file.openWriter();
+        try {
+            StringBuilder sb = new StringBuilder();
+            if(pack.length() > 0) sb.append("package ").append(pack).append(";\n\n");
+            sb.append("/**\n * Named constructors metadata for {@link ").append(target)
+                    .append("}, generated by ").append(getClass().getName()).append("\n */\n");
+            sb.append("public final class ").append(simple).append(" extends ").append(BASE).append("<").append(target).append("> {\n\n");
+            sb.append("    @Override\n    public Class<").append(target).append("> targetClass() {\n");
+            sb.append("        return ").append(target).append(".class;\n    }\n\n");
+            sb.append("    @Override\n    public String[][] names() {\n        return new String[][]{\n");
+            for(List<String> coNames : names) {
+                sb.append("                {");
+                for(int i = 0; i < coNames.size(); i++) {
+                    if(i > 0) sb.append(", ");
+                    sb.append('"').append(escape(coNames.get(i))).append('"');
+                }
+                sb.append("},\n");
+            }
+            sb.append("        };\n    }\n\n");
+            sb.append("    @Override\n    public Class<?>[][] types() {\n        return new Class<?>[][]{\n");
+            for(ExecutableElement co : constructors) {
+                sb.append("                {");
+                List<? extends VariableElement> params = co.getParameters();
+                for(int i = 0; i < params.size(); i++) {
+                    if(i > 0) sb.append(", ");
+                    sb.append(erasure(params.get(i).asType())).append(".class");
+                }
+                sb.append("},\n");
+            }
+            sb.append("        };\n    }\n\n");
+            sb.append("    @Override\n    @SuppressWarnings(\"unchecked\")\n");
+            sb.append("    public ").append(target).append(" instantiate(int constructorIndex, Object[] args) throws Exception {\n");
+            sb.append("        switch(constructorIndex) {\n");
+            for(int i = 0; i < constructors.size(); i++) {
+                sb.append("            case ").append(i).append(": return new ").append(target).append("(");
+                List<? extends VariableElement> params = constructors.get(i).getParameters();
+                for(int j = 0; j < params.size(); j++) {
+                    if(j > 0) sb.append(", ");
+                    sb.append("(").append(castType(params.get(j).asType())).append(") args[").append(j).append("]");
+                }
+                sb.append(");\n");
+            }
+            sb.append("            default: throw new IllegalArgumentException(\"Invalid constructor index: '\" + constructorIndex + \"'\");\n");
+            sb.append("        }\n    }\n}\n");
+            writer.write(sb.toString());
+        } finally {
+            writer.close();
+        }
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    private String castType(TypeMirror type) {
+        if(type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        }
+        return erasure(type);
+    }
+
+    private static String escape(String str) {
+        return str.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,124 @@
+package com.alexkasko.springjdbc.named.processor;
+
+import com.alexkasko.springjdbc.named.GeneratedNamedConstructors;
+import com.alexkasko.springjdbc.named.NamedConstructorMapper;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class NamedConstructorsProcessorTest {
+    private static final String SOURCE =
+            "package com.example;\n" +
+            "import javax.inject.Named;\n" +
+            "public class Outer {\n" +
+            "    public static class Row {\n" +
+            "        public static String caller;\n" +
+            "        public final long id;\n" +
+            "        public final String foo;\n" +
+            "        Row(@Named(\"ID\") long id, @Named(\"foo\") String foo) {\n" +
+            "            this.id = id;\n" +
+            "            this.foo = foo;\n" +
+            "            caller = new Throwable().getStackTrace()[1].getClassName();\n" +
+            "        }\n" +
+            "        Row(@Named(\"id\") long id) { this(id, null); }\n" +
+            "    }\n" +
+            "    private static class Hidden {\n" +
+            "        Hidden(@Named(\"id\") long id) {}\n" +
+            "    }\n" +
+            "    public static class Injected {\n" +
+            "        Injected(@Named(\"id\") long id, Object other) {}\n" +
+            "    }\n" +
+            "}\n";
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testGenerate() throws Exception {
+        File out = createTempDir();
+        try {
+            ClassLoader cl = compile(out);
+            assertTrue("Generation fail", new File(out, "com/example/Outer$Row_NamedConstructors.java").exists());
+            assertFalse("Skip fail", new File(out, "com/example/Outer$Hidden_NamedConstructors.java").exists());
+            assertFalse("Skip fail", new File(out, "com/example/Outer$Injected_NamedConstructors.java").exists());
+            Class<?> gen = Class.forName("com.example.Outer$Row_NamedConstructors", true, cl);
+            GeneratedNamedConstructors<Object> meta = (GeneratedNamedConstructors<Object>) gen.newInstance();
+            assertEquals("Target fail", "com.example.Outer$Row", meta.targetClass().getName());
+            assertEquals("Names fail", Arrays.asList("id", "foo"), Arrays.asList(meta.names()[0]));
+            assertEquals("Types fail", long.class, meta.types()[0][0]);
+            Object row = meta.instantiate(0, new Object[]{42L, "bar"});
+            assertEquals("Instantiation fail", meta.targetClass(), row.getClass());
+        } finally {
+            delete(out);
+        }
+    }
+
+    @Test
+    public void testMapperUsesGenerated() throws Exception {
+        File out = createTempDir();
+        try {
+            ClassLoader cl = compile(out);
+            Class<?> rowClass = Class.forName("com.example.Outer$Row", true, cl);
+            DriverManagerDataSource ds = new DriverManagerDataSource();
+            ds.setDriverClassName("org.h2.Driver");
+            ds.setUrl("jdbc:h2:mem:processor_test");
+            Object row = new JdbcTemplate(ds).queryForObject("select 42 as id, 'bar' as foo",
+                    NamedConstructorMapper.forClass(rowClass));
+            assertEquals("Mapping fail", rowClass, row.getClass());
+            assertEquals("Mapping fail", 42L, rowClass.getDeclaredField("id").getLong(row));
+            assertEquals("Mapping fail", "bar", rowClass.getDeclaredField("foo").get(row));
+            // constructor is invoked directly from generated class, not through reflection
+            assertEquals("Generated fail", "com.example.Outer$Row_NamedConstructors",
+                    rowClass.getField("caller").get(null));
+        } finally {
+            delete(out);
+        }
+    }
+
+    private ClassLoader compile(File out) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        JavaFileObject source = new SimpleJavaFileObject(URI.create("string:///com/example/Outer.java"), JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return SOURCE;
+            }
+        };
+        JavaCompiler.CompilationTask task = compiler.getTask(null, null, null,
+                Arrays.asList("-d", out.getPath(), "-s", out.getPath(), "-classpath", System.getProperty("java.class.path")),
+                null, Collections.singletonList(source));
+        task.setProcessors(Collections.singletonList(new NamedConstructorsProcessor()));
+        assertTrue("Compilation fail", task.call());
+        return new URLClassLoader(new URL[]{out.toURI().toURL()}, getClass().getClassLoader());
+    }
+
+    private static File createTempDir() {
+        File out = new File(System.getProperty("java.io.tmpdir"), "named-processor-test-" + System.nanoTime());
+        assertTrue("Dir fail", out.mkdirs());
+        return out;
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if(null != children) {
+            for(File ch : children) {
+                delete(ch);
+            }
+        }
+        file.delete();
+    }
+}
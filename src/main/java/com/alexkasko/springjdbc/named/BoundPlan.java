@@ -0,0 +1,38 @@
+package com.alexkasko.springjdbc.named;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+
+/**
+ * Mapping plan bound to the result set it was created for. Result set is referenced weakly
+ * so plans cached in mapper don't hold closed result sets (and their statements) from GC.
+ *
+ * @param <P> plan type
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class BoundPlan<P> extends WeakReference<ResultSet> {
+    /**
+     * plan for result set
+     */
+    final P plan;
+
+    /**
+     * Constructor
+     *
+     * @param rs result set
+     * @param plan plan created for this result set
+     */
+    BoundPlan(ResultSet rs, P plan) {
+        super(rs);
+        this.plan = plan;
+    }
+
+    /**
+     * @param rs result set
+     * @return whether this plan was created for provided result set
+     */
+    boolean isFor(ResultSet rs) {
+        return get() == rs;
+    }
+}
@@ -0,0 +1,402 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.support.lob.DefaultLobHandler;
+import org.springframework.jdbc.support.lob.LobHandler;
+import org.springframework.util.ClassUtils;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.sql.*;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.jdbc.support.JdbcUtils.getResultSetValue;
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
+
+/**
+ * Typed result set column readers, chosen for each constructor argument by its parameter type
+ * on mapper creation. Primitive and boxed numeric types are read with typed {@code ResultSet} getters
+ * and {@code wasNull} check, other types not listed here are read with generic
+ * {@code JdbcUtils.getResultSetValue}. {@code InputStream}, {@code Reader} and {@link LobHandle} arguments
+ * are read through {@code LobHandler} without LOB materialization and are valid only while row is current.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructor
+ * @see NamedConstructorPlan
+ */
+enum ColumnReader {
+    INT {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            int res = rs.getInt(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            int width = integralWidth(colType);
+            return width > 0 && width <= 4;
+        }
+    },
+    LONG {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            long res = rs.getLong(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            int width = integralWidth(colType);
+            return width > 0 && width <= 8;
+        }
+    },
+    SHORT {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            short res = rs.getShort(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            int width = integralWidth(colType);
+            return width > 0 && width <= 2;
+        }
+    },
+    BYTE {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            byte res = rs.getByte(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            int width = integralWidth(colType);
+            return width > 0 && width <= 1;
+        }
+    },
+    DOUBLE {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            double res = rs.getDouble(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return Number.class.isAssignableFrom(colType);
+        }
+    },
+    FLOAT {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            float res = rs.getFloat(index);
+            return rs.wasNull() ? null : res;
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return Number.class.isAssignableFrom(colType);
+        }
+    },
+    BOOLEAN {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            boolean res = rs.getBoolean(index);
+            return rs.wasNull() ? null : res;
+        }
+    },
+    STRING {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getString(index);
+        }
+
+        @Override
+        void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) {
+            // driver conversion, any column may be read as string
+        }
+    },
+    BIG_DECIMAL {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getBigDecimal(index);
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return Number.class.isAssignableFrom(colType);
+        }
+    },
+    BYTES {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getBytes(index);
+        }
+    },
+    TIMESTAMP {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getTimestamp(index);
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return java.util.Date.class.isAssignableFrom(colType);
+        }
+    },
+    DATE {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getDate(index);
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return java.util.Date.class.isAssignableFrom(colType);
+        }
+    },
+    TIME {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return rs.getTime(index);
+        }
+
+        @Override
+        boolean accepts(Class<?> colType) {
+            return java.util.Date.class.isAssignableFrom(colType);
+        }
+    },
+    BINARY_STREAM {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return read(rs, index, DEFAULT_LOB_HANDLER);
+        }
+
+        @Override
+        Object read(ResultSet rs, int index, LobHandler lobHandler) throws SQLException {
+            return lobHandler.getBlobAsBinaryStream(rs, index);
+        }
+
+        @Override
+        boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) {
+            // driver conversion, any column may be read as stream
+        }
+    },
+    CHARACTER_STREAM {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return read(rs, index, DEFAULT_LOB_HANDLER);
+        }
+
+        @Override
+        Object read(ResultSet rs, int index, LobHandler lobHandler) throws SQLException {
+            return lobHandler.getClobAsCharacterStream(rs, index);
+        }
+
+        @Override
+        boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) {
+            // driver conversion, any column may be read as stream
+        }
+    },
+    LOB_HANDLE {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return read(rs, index, DEFAULT_LOB_HANDLER);
+        }
+
+        @Override
+        Object read(ResultSet rs, int index, LobHandler lobHandler) throws SQLException {
+            return new LobHandle(rs, index, lobHandler);
+        }
+
+        @Override
+        boolean isStreaming() {
+            return true;
+        }
+
+        @Override
+        void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) {
+            // driver conversion, any column may be read as LOB
+        }
+    },
+    OBJECT {
+        @Override
+        Object read(ResultSet rs, int index) throws SQLException {
+            return getResultSetValue(rs, index);
+        }
+
+        @Override
+        void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) throws SQLException {
+            // only standard classes are checked, vendor ones are converted by getResultSetValue
+            Class<?> colType = columnType(rsmd, index);
+            if(null == colType || java.sql.Date.class == colType) return;
+            if(!resolvePrimitiveIfNecessary(type).isAssignableFrom(colType)) throw incompatible(rsmd, index, type, name);
+        }
+    };
+
+    /**
+     * LOB handler used by default
+     */
+    static final LobHandler DEFAULT_LOB_HANDLER = new DefaultLobHandler();
+    private static final Map<Class<?>, ColumnReader> READERS = new HashMap<Class<?>, ColumnReader>();
+
+    static {
+        READERS.put(int.class, INT);
+        READERS.put(Integer.class, INT);
+        READERS.put(long.class, LONG);
+        READERS.put(Long.class, LONG);
+        READERS.put(short.class, SHORT);
+        READERS.put(Short.class, SHORT);
+        READERS.put(byte.class, BYTE);
+        READERS.put(Byte.class, BYTE);
+        READERS.put(double.class, DOUBLE);
+        READERS.put(Double.class, DOUBLE);
+        READERS.put(float.class, FLOAT);
+        READERS.put(Float.class, FLOAT);
+        READERS.put(boolean.class, BOOLEAN);
+        READERS.put(Boolean.class, BOOLEAN);
+        READERS.put(String.class, STRING);
+        READERS.put(BigDecimal.class, BIG_DECIMAL);
+        READERS.put(byte[].class, BYTES);
+        READERS.put(Timestamp.class, TIMESTAMP);
+        READERS.put(java.sql.Date.class, DATE);
+        READERS.put(Time.class, TIME);
+        READERS.put(InputStream.class, BINARY_STREAM);
+        READERS.put(Reader.class, CHARACTER_STREAM);
+        READERS.put(LobHandle.class, LOB_HANDLE);
+    }
+
+    /**
+     * Reads column value from current row
+     *
+     * @param rs result set
+     * @param index 1-based column index
+     * @return column value, may be null
+     * @throws SQLException on column access error
+     */
+    abstract Object read(ResultSet rs, int index) throws SQLException;
+
+    /**
+     * Reads column value from current row, LOB readers use provided handler
+     *
+     * @param rs result set
+     * @param index 1-based column index
+     * @param lobHandler LOB handler
+     * @return column value, may be null
+     * @throws SQLException on column access error
+     */
+    Object read(ResultSet rs, int index, LobHandler lobHandler) throws SQLException {
+        return read(rs, index);
+    }
+
+    /**
+     * Streaming readers return values valid only while result set row is current
+     *
+     * @return whether this reader returns streams or LOB handles
+     */
+    boolean isStreaming() {
+        return false;
+    }
+
+    /**
+     * Typed getters of numeric readers read columns without loss of precision or range: integral readers
+     * accept integral columns not wider than parameter type, floating point and {@code BigDecimal} readers
+     * accept any numeric columns. Other columns not compatible with parameter type need value converters.
+     *
+     * @param colType column values class
+     * @return whether typed getter of this reader is used for column class without converter lookup
+     */
+    boolean accepts(Class<?> colType) {
+        return false;
+    }
+
+    /**
+     * Checks column type against constructor parameter type using result set metadata, called
+     * for arguments without value converters. {@code String} and streaming readers rely on driver conversion
+     * and don't check anything.
+     *
+     * @param rsmd result set metadata
+     * @param index 1-based column index
+     * @param type constructor parameter type
+     * @param name named argument
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException on incompatible types
+     */
+    void check(ResultSetMetaData rsmd, int index, Class<?> type, String name) throws SQLException {
+        // only standard classes are checked
+        Class<?> colType = columnType(rsmd, index);
+        if(null == colType || accepts(colType) || resolvePrimitiveIfNecessary(type).isAssignableFrom(colType)) return;
+        throw incompatible(rsmd, index, type, name);
+    }
+
+    /**
+     * Resolves class of values returned by {@code JdbcUtils.getResultSetValue} for column
+     * using result set metadata, only standard {@code java.*} classes are resolved
+     *
+     * @param rsmd result set metadata
+     * @param index 1-based column index
+     * @return column values class or null for vendor or unknown classes
+     * @throws SQLException on metadata access error
+     */
+    static Class<?> columnType(ResultSetMetaData rsmd, int index) throws SQLException {
+        String className = rsmd.getColumnClassName(index);
+        if(null == className || !className.startsWith("java.")) return null;
+        Class<?> colType;
+        try {
+            colType = ClassUtils.forName(className, ColumnReader.class.getClassLoader());
+        } catch(ClassNotFoundException e) {
+            return null;
+        } catch(LinkageError e) {
+            return null;
+        }
+        if(Blob.class.isAssignableFrom(colType)) return byte[].class;
+        if(Clob.class.isAssignableFrom(colType)) return String.class;
+        return colType;
+    }
+
+    /**
+     * @param type numeric class
+     * @return size in bytes of integral primitive type, {@code 0} for other types
+     */
+    static int integralWidth(Class<?> type) {
+        if(Long.class == type) return 8;
+        if(Integer.class == type) return 4;
+        if(Short.class == type) return 2;
+        if(Byte.class == type) return 1;
+        return 0;
+    }
+
+    private static IllegalArgumentException incompatible(ResultSetMetaData rsmd, int index, Class<?> type, String name)
+            throws SQLException {
+        return new IllegalArgumentException(
+                "Type of column: '" + rsmd.getColumnLabel(index) + "', index: '" + index + "', " +
+                "class: '" + rsmd.getColumnClassName(index) + "'" +
+                " is not compatible with named argument: '" + name + "', type: '" + type.getName() + "'");
+    }
+
+    /**
+     * Chooses reader for constructor parameter type
+     *
+     * @param type parameter type
+     * @return reader for type
+     */
+    static ColumnReader forType(Class<?> type) {
+        ColumnReader res = READERS.get(type);
+        return null != res ? res : OBJECT;
+    }
+}
@@ -0,0 +1,269 @@
+package com.alexkasko.springjdbc.named;
+
+import java.lang.ref.SoftReference;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.RandomAccess;
+
+/**
+ * Read-only list view over rows stored column by column, objects are instantiated on {@link #get(int)} calls.
+ * Numeric and boolean columns are stored in primitive arrays with null bitsets, strings are dictionary-encoded.
+ * Instantiated objects may be cached through soft references. List is thread-safe.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see ColumnarResultSetExtractor
+ */
+class ColumnarList<T> extends AbstractList<T> implements RandomAccess {
+    private final NamedConstructorPlan<T> plan;
+    private final Column[] columns;
+    private final int size;
+    private final SoftReference<?>[] cache;
+
+    /**
+     * Constructor
+     *
+     * @param plan plan with constructor to instantiate objects with and value converters
+     * @param columns filled columns in constructor arguments order
+     * @param size number of rows
+     * @param softCache whether to cache instantiated objects
+     */
+    ColumnarList(NamedConstructorPlan<T> plan, Column[] columns, int size, boolean softCache) {
+        this.plan = plan;
+        this.columns = columns;
+        this.size = size;
+        this.cache = softCache ? new SoftReference<?>[size] : null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T get(int index) {
+        if(index < 0 || index >= size) throw new IndexOutOfBoundsException("Index: '" + index + "', size: '" + size + "'");
+        if(null != cache) {
+            SoftReference<?> ref = cache[index];
+            // only instances of T are cached
+            @SuppressWarnings("unchecked")
+            T cached = null != ref ? (T) ref.get() : null;
+            if(null != cached) return cached;
+        }
+        Object[] args = new Object[columns.length];
+        for(int i = 0; i < columns.length; i++) {
+            args[i] = columns[i].get(index);
+        }
+        plan.convert(args);
+        T res = plan.constructor.invoke(args);
+        if(null != cache) cache[index] = new SoftReference<T>(res);
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Creates column storage for constructor argument
+     *
+     * @param reader column reader chosen for argument
+     * @return empty column
+     */
+    static Column createColumn(ColumnReader reader) {
+        switch(reader) {
+            case INT: return new IntColumn();
+            case LONG: return new LongColumn();
+            case DOUBLE: return new DoubleColumn();
+            case BOOLEAN: return new BooleanColumn();
+            case STRING: return new StringColumn();
+            default: return new ObjectColumn(reader);
+        }
+    }
+
+    /**
+     * Single column storage
+     */
+    abstract static class Column {
+        final BitSet nulls = new BitSet();
+
+        /**
+         * Reads value from result set current row
+         *
+         * @param rs result set
+         * @param index 1-based column index
+         * @param row row number
+         * @throws SQLException on column access error
+         */
+        abstract void read(ResultSet rs, int index, int row) throws SQLException;
+
+        /**
+         * @param row row number
+         * @return stored value, may be null
+         */
+        abstract Object get(int row);
+
+        /**
+         * Trims internal arrays to rows count
+         *
+         * @param size rows count
+         */
+        abstract void trim(int size);
+
+        static int grow(int length) {
+            return Math.max(16, length * 2);
+        }
+    }
+
+    private static class IntColumn extends Column {
+        private int[] data = new int[0];
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(row == data.length) data = Arrays.copyOf(data, grow(data.length));
+            data[row] = rs.getInt(index);
+            if(rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : data[row];
+        }
+
+        @Override
+        void trim(int size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    private static class LongColumn extends Column {
+        private long[] data = new long[0];
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(row == data.length) data = Arrays.copyOf(data, grow(data.length));
+            data[row] = rs.getLong(index);
+            if(rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : data[row];
+        }
+
+        @Override
+        void trim(int size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    private static class DoubleColumn extends Column {
+        private double[] data = new double[0];
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(row == data.length) data = Arrays.copyOf(data, grow(data.length));
+            data[row] = rs.getDouble(index);
+            if(rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : data[row];
+        }
+
+        @Override
+        void trim(int size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+
+    private static class BooleanColumn extends Column {
+        private final BitSet data = new BitSet();
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(rs.getBoolean(index)) data.set(row);
+            if(rs.wasNull()) nulls.set(row);
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : data.get(row);
+        }
+
+        @Override
+        void trim(int size) {
+            // no-op
+        }
+    }
+
+    private static class StringColumn extends Column {
+        private int[] codes = new int[0];
+        private String[] dict = new String[0];
+        private Map<String, Integer> dictMap = new HashMap<String, Integer>();
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(row == codes.length) codes = Arrays.copyOf(codes, grow(codes.length));
+            String val = rs.getString(index);
+            if(null == val) {
+                nulls.set(row);
+                return;
+            }
+            Integer code = dictMap.get(val);
+            if(null == code) {
+                code = dictMap.size();
+                dictMap.put(val, code);
+                if(code == dict.length) dict = Arrays.copyOf(dict, grow(dict.length));
+                dict[code] = val;
+            }
+            codes[row] = code;
+        }
+
+        @Override
+        Object get(int row) {
+            return nulls.get(row) ? null : dict[codes[row]];
+        }
+
+        @Override
+        void trim(int size) {
+            codes = Arrays.copyOf(codes, size);
+            dict = Arrays.copyOf(dict, dictMap.size());
+            dictMap = null;
+        }
+    }
+
+    private static class ObjectColumn extends Column {
+        private final ColumnReader reader;
+        private Object[] data = new Object[0];
+
+        private ObjectColumn(ColumnReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        void read(ResultSet rs, int index, int row) throws SQLException {
+            if(row == data.length) data = Arrays.copyOf(data, grow(data.length));
+            data[row] = reader.read(rs, index);
+        }
+
+        @Override
+        Object get(int row) {
+            return data[row];
+        }
+
+        @Override
+        void trim(int size) {
+            data = Arrays.copyOf(data, size);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * {@code ResultSetExtractor} that stores result set rows column by column and returns read-only list view
+ * that instantiates objects only on {@code get(i)} calls. Numeric ({@code int}, {@code long}, {@code double}
+ * and their wrappers) and {@code boolean} arguments are stored in primitive arrays with null bitsets,
+ * strings are dictionary-encoded, other types are stored as is. Designed for large results loaded once
+ * and read sparsely (e.g. lookup tables), retained heap is much smaller than for list of instantiated objects.
+ * Optionally instantiated objects are cached through soft references. Constructor is chosen once
+ * per result set the same way as in {@link NamedConstructorMapper}. Extractor instances are thread-safe,
+ * returned lists are thread-safe.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class ColumnarResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+    private final NamedConstructorList<T> list;
+    private final boolean softCache;
+
+    /**
+     * Constructor
+     *
+     * @param list list of constructors
+     * @param softCache whether to cache instantiated objects through soft references
+     */
+    private ColumnarResultSetExtractor(NamedConstructorList<T> list, boolean softCache) {
+        this.list = list;
+        this.softCache = softCache;
+    }
+
+    /**
+     * Factory method for extractor without instantiated objects caching
+     *
+     * @param clazz class type to instantiate from row data
+     * @param <T> class type parameter
+     * @return extractor instance
+     */
+    public static <T> ColumnarResultSetExtractor<T> forClass(Class<T> clazz) {
+        return forClass(clazz, false);
+    }
+
+    /**
+     * Factory method
+     *
+     * @param clazz class type to instantiate from row data
+     * @param softCache whether to cache instantiated objects through soft references
+     * @param <T> class type parameter
+     * @return extractor instance
+     */
+    public static <T> ColumnarResultSetExtractor<T> forClass(Class<T> clazz, boolean softCache) {
+        return new ColumnarResultSetExtractor<T>(NamedConstructorCache.INSTANCE.forClass(clazz), softCache);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> extractData(ResultSet rs) throws SQLException {
+        NamedConstructorPlan<T> plan = list.plan(rs.getMetaData());
+        if(plan.isStreaming()) throw new IllegalArgumentException(
+                "Stream and LOB handle arguments are not supported, constructor: '" + plan.constructor + "'");
+        int[] indices = plan.indices;
+        ColumnarList.Column[] columns = new ColumnarList.Column[indices.length];
+        for(int i = 0; i < columns.length; i++) {
+            columns[i] = ColumnarList.createColumn(plan.readers[i]);
+        }
+        int row = 0;
+        while(rs.next()) {
+            for(int i = 0; i < columns.length; i++) {
+                columns[i].read(rs, indices[i], row);
+            }
+            row += 1;
+        }
+        for(ColumnarList.Column co : columns) {
+            co.trim(row);
+        }
+        return new ColumnarList<T>(plan, columns, row, softCache);
+    }
+}
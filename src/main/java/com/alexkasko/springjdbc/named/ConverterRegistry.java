@@ -0,0 +1,167 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.util.NumberUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
+
+/**
+ * Registry of value converters for constructor arguments. Converter is registered for source type
+ * (column value class from result set metadata) and target type, it is chosen for argument if column class
+ * is assignable to source type and parameter type is assignable to target type, so converter registered for
+ * {@code Enum} target is used for all enum parameters. Converters are checked in registration order.
+ * Converters are resolved once per result set for arguments whose column class is not compatible with parameter
+ * type. Such arguments are read with {@code getObject} and converted, if converter is not found, mapper creation
+ * fails for incompatible column, only {@code String} and streaming arguments rely on driver conversion.
+ * Numeric columns are read with typed getters for floating point and {@code BigDecimal} parameters
+ * and for integral parameters not narrower than column type, wider and non-integral columns for integral
+ * parameters need converter.
+ * Registry must be fully configured before passing it to mappers.
+ *
+ * <pre>
+ * ConverterRegistry converters = ConverterRegistry.withDefaults()
+ *         .register(Timestamp.class, Instant.class, new ValueConverter() {
+ *             public Object convert(Object value, Class&lt;?&gt; targetType) {
+ *                 return ((Timestamp) value).toInstant();
+ *             }
+ *         });
+ * RowMapper&lt;Foo&gt; mapper = NamedConstructorMapper.forClass(Foo.class).withConverters(converters);
+ * </pre>
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#withConverters(ConverterRegistry)
+ */
+public class ConverterRegistry {
+    /**
+     * Registry with default converters used by mappers
+     */
+    static final ConverterRegistry DEFAULTS = withDefaults();
+
+    private final List<Entry> entries = new ArrayList<Entry>();
+
+    /**
+     * Creates empty registry
+     */
+    public ConverterRegistry() {
+    }
+
+    /**
+     * Creates registry with default converters: string to enum (by name), string to char (single character
+     * strings), number to other numeric types (integral types are checked for overflow and fractional part) and number to boolean (non-zero is true)
+     *
+     * @return registry with default converters
+     */
+    public static ConverterRegistry withDefaults() {
+        return new ConverterRegistry()
+                .register(String.class, Enum.class, new EnumConverter())
+                .register(String.class, Character.class, new CharConverter())
+                .register(Number.class, Number.class, new NumberConverter())
+                .register(Number.class, Boolean.class, new BooleanConverter());
+    }
+
+    /**
+     * Registers converter
+     *
+     * @param sourceType column values class
+     * @param targetType constructor parameter type
+     * @param converter converter
+     * @return registry itself
+     */
+    public synchronized ConverterRegistry register(Class<?> sourceType, Class<?> targetType, ValueConverter converter) {
+        if(null == sourceType) throw new IllegalArgumentException("Provided source type is null");
+        if(null == targetType) throw new IllegalArgumentException("Provided target type is null");
+        if(null == converter) throw new IllegalArgumentException("Provided converter is null");
+        entries.add(new Entry(resolvePrimitiveIfNecessary(sourceType), resolvePrimitiveIfNecessary(targetType), converter));
+        return this;
+    }
+
+    /**
+     * Finds converter for column class and parameter type
+     *
+     * @param columnType column values class
+     * @param parameterType constructor parameter type
+     * @return converter or null if not found
+     */
+    synchronized ValueConverter find(Class<?> columnType, Class<?> parameterType) {
+        Class<?> target = resolvePrimitiveIfNecessary(parameterType);
+        for(Entry en : entries) {
+            if(en.source.isAssignableFrom(columnType) && en.target.isAssignableFrom(target)) return en.converter;
+        }
+        return null;
+    }
+
+    private static class Entry {
+        private final Class<?> source;
+        private final Class<?> target;
+        private final ValueConverter converter;
+
+        private Entry(Class<?> source, Class<?> target, ValueConverter converter) {
+            this.source = source;
+            this.target = target;
+            this.converter = converter;
+        }
+    }
+
+    private static class EnumConverter implements ValueConverter {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object convert(Object value, Class<?> targetType) {
+            return Enum.valueOf((Class<Enum>) targetType, value.toString());
+        }
+    }
+
+    private static class CharConverter implements ValueConverter {
+        @Override
+        public Object convert(Object value, Class<?> targetType) {
+            String str = value.toString();
+            if(1 != str.length()) throw new IllegalArgumentException("Cannot convert string: '" + str + "' to char");
+            return str.charAt(0);
+        }
+    }
+
+    private static class NumberConverter implements ValueConverter {
+        @Override
+        @SuppressWarnings("unchecked")
+        public Object convert(Object value, Class<?> targetType) {
+            Number num = (Number) value;
+            if(ColumnReader.integralWidth(targetType) > 0) checkIntegral(num, targetType);
+            return NumberUtils.convertNumberToTargetClass(num, (Class<Number>) targetType);
+        }
+
+        private static void checkIntegral(Number num, Class<?> targetType) {
+            BigInteger integral;
+            try {
+                integral = toBigDecimal(num).toBigIntegerExact();
+            } catch(ArithmeticException e) {
+                throw new IllegalArgumentException("Cannot convert number: '" + num + "' with fractional part" +
+                        " to: '" + targetType.getName() + "'");
+            }
+            if(integral.bitLength() >= ColumnReader.integralWidth(targetType) * 8) throw new IllegalArgumentException(
+                    "Cannot convert number: '" + num + "' to: '" + targetType.getName() + "', value overflow");
+        }
+
+        private static BigDecimal toBigDecimal(Number num) {
+            if(num instanceof BigDecimal) return (BigDecimal) num;
+            if(num instanceof BigInteger) return new BigDecimal((BigInteger) num);
+            if(num instanceof Double || num instanceof Float) {
+                double dbl = num.doubleValue();
+                if(Double.isNaN(dbl) || Double.isInfinite(dbl)) throw new IllegalArgumentException(
+                        "Cannot convert number: '" + num + "' to integral type");
+                return new BigDecimal(dbl);
+            }
+            return BigDecimal.valueOf(num.longValue());
+        }
+    }
+
+    private static class BooleanConverter implements ValueConverter {
+        @Override
+        public Object convert(Object value, Class<?> targetType) {
+            return 0 != ((Number) value).intValue();
+        }
+    }
+}
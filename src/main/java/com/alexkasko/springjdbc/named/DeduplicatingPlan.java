@@ -0,0 +1,104 @@
+package com.alexkasko.springjdbc.named;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Plan wrapper replacing selected arguments with canonical equal values from shared table and
+ * optionally reusing instances already created for the same key column value. Reused instance is
+ * returned without reading other columns, so key column must determine all row values.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see MapperOptions
+ */
+class DeduplicatingPlan<T> implements RowPlan<T> {
+    private final NamedConstructorPlan<T> plan;
+    private final LossyTable values;
+    private final int[] positions;
+    private final LossyTable instances;
+    private final int keyIndex;
+
+    /**
+     * Constructor
+     *
+     * @param plan plan to wrap
+     * @param values canonical values table, may be null if positions are empty
+     * @param positions arguments positions to canonicalize
+     * @param instances instances table, null to disable instance reuse
+     * @param keyIndex 1-based key column index
+     */
+    DeduplicatingPlan(NamedConstructorPlan<T> plan, LossyTable values, int[] positions, LossyTable instances, int keyIndex) {
+        this.plan = plan;
+        this.values = values;
+        this.positions = positions;
+        this.instances = instances;
+        this.keyIndex = keyIndex;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T invoke(ResultSet rs) throws SQLException {
+        Object key = null;
+        if(null != instances) {
+            key = NamedConstructorSubclassesMapper.discKey(rs.getObject(keyIndex));
+            if(null != key) {
+                Object existed = instances.get(key);
+                if(null != existed) return (T) existed;
+            }
+        }
+        Object[] args = plan.buffer();
+        try {
+            plan.readArgs(rs, args);
+            canonicalize(args);
+            T res = plan.constructor.invoke(args);
+            if(null != key) instances.put(key, res);
+            return res;
+        } finally {
+            NamedConstructorPlan.clear(args);
+        }
+    }
+
+    /**
+     * Reads row with canonical arguments, instances are not reused for row data
+     *
+     * @param rs result set this plan was created for
+     * @return row data
+     * @throws SQLException on column value access error
+     */
+    @Override
+    public RowData<T> read(ResultSet rs) throws SQLException {
+        Object[] args = plan.readArgs(rs);
+        canonicalize(args);
+        return new RowData<T>(plan.constructor, args);
+    }
+
+    /**
+     * Returns wrapped plan, arguments are not canonicalized when accessed without instantiation
+     *
+     * @param rs result set this plan was created for
+     * @return wrapped plan
+     */
+    @Override
+    public NamedConstructorPlan<T> resolve(ResultSet rs) {
+        return plan;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStreaming() {
+        return plan.isStreaming();
+    }
+
+    private void canonicalize(Object[] args) {
+        for(int pos : positions) {
+            args[pos] = values.canonical(args[pos]);
+        }
+    }
+}
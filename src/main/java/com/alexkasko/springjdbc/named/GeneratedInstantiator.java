@@ -0,0 +1,154 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.asm.Opcodes.*;
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
+
+/**
+ * Instantiator using class generated at runtime with direct constructor invocation.
+ * Generated class is defined in its own class loader (child of target class loader), so
+ * only public constructors of public classes are supported. Arguments whose types don't exactly
+ * match constructor parameters (e.g. {@code Integer} for {@code long} parameter) are passed
+ * to reflective instantiator to keep {@code Constructor.newInstance} conversion semantics.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class GeneratedInstantiator<T> implements Instantiator<T> {
+    private static final String STRATEGY_PROPERTY = "com.alexkasko.springjdbc.named.instantiator";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private final Instantiator<T> generated;
+    private final Instantiator<T> fallback;
+    private final Class<?>[] types;
+    private final boolean[] primitive;
+
+    /**
+     * Constructor
+     *
+     * @param generated generated instantiator
+     * @param fallback reflective instantiator
+     * @param paramTypes constructor parameter types
+     */
+    private GeneratedInstantiator(Instantiator<T> generated, Instantiator<T> fallback, Class<?>[] paramTypes) {
+        this.generated = generated;
+        this.fallback = fallback;
+        this.types = new Class<?>[paramTypes.length];
+        this.primitive = new boolean[paramTypes.length];
+        for(int i = 0; i < paramTypes.length; i++) {
+            this.types[i] = resolvePrimitiveIfNecessary(paramTypes[i]);
+            this.primitive[i] = paramTypes[i].isPrimitive();
+        }
+    }
+
+    /**
+     * Creates instantiator for provided constructor, generated one if possible,
+     * reflective otherwise. Reflective instantiator may be forced with
+     * {@code com.alexkasko.springjdbc.named.instantiator=reflection} system property.
+     *
+     * @param constructor constructor to invoke
+     * @param <T> object type to instantiate
+     * @return instantiator instance
+     */
+    static <T> Instantiator<T> forConstructor(Constructor<T> constructor) {
+        Instantiator<T> reflective = new ReflectionInstantiator<T>(constructor);
+        if("reflection".equals(System.getProperty(STRATEGY_PROPERTY))) return reflective;
+        if(!isAccessible(constructor)) return reflective;
+        try {
+            Instantiator<T> generated = generate(constructor);
+            return new GeneratedInstantiator<T>(generated, reflective, constructor.getParameterTypes());
+        } catch(Throwable e) {
+            // restricted environment, bytecode generation is not available
+            return reflective;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T instantiate(Object[] args) throws Exception {
+        for(int i = 0; i < types.length; i++) {
+            Object ar = args[i];
+            if(primitive[i] ? (null == ar || types[i] != ar.getClass()) : (null != ar && !types[i].isInstance(ar))) {
+                return fallback.instantiate(args);
+            }
+        }
+        return generated.instantiate(args);
+    }
+
+    private static boolean isAccessible(Constructor<?> constructor) {
+        if(!Modifier.isPublic(constructor.getModifiers())) return false;
+        Class<?> clazz = constructor.getDeclaringClass();
+        if(Modifier.isAbstract(clazz.getModifiers()) || null == clazz.getClassLoader()) return false;
+        if(constructor.getParameterTypes().length != constructor.getParameterAnnotations().length) return false;
+        for(Class<?> cl = clazz; null != cl; cl = cl.getEnclosingClass()) {
+            if(!Modifier.isPublic(cl.getModifiers())) return false;
+            if(cl.isMemberClass() && !Modifier.isStatic(cl.getModifiers())) return false;
+        }
+        for(Class<?> pt : constructor.getParameterTypes()) {
+            Class<?> cl = pt;
+            while(cl.isArray()) cl = cl.getComponentType();
+            if(!Modifier.isPublic(cl.getModifiers())) return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Instantiator<T> generate(Constructor<T> constructor) throws Exception {
+        Class<T> clazz = constructor.getDeclaringClass();
+        String name = clazz.getName() + "$$NamedInstantiator$" + COUNTER.incrementAndGet();
+        String owner = Type.getInternalName(clazz);
+        ClassWriter cw = new ClassWriter(true);
+        cw.visit(V1_5, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name.replace('.', '/'), null, "java/lang/Object",
+                new String[]{Type.getInternalName(Instantiator.class)});
+        MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "instantiate", "([Ljava/lang/Object;)Ljava/lang/Object;", null, null);
+        mv.visitCode();
+        mv.visitTypeInsn(NEW, owner);
+        mv.visitInsn(DUP);
+        Class<?>[] params = constructor.getParameterTypes();
+        for(int i = 0; i < params.length; i++) {
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitLdcInsn(i);
+            mv.visitInsn(AALOAD);
+            Class<?> pt = params[i];
+            if(pt.isPrimitive()) {
+                String boxed = Type.getInternalName(resolvePrimitiveIfNecessary(pt));
+                mv.visitTypeInsn(CHECKCAST, boxed);
+                mv.visitMethodInsn(INVOKEVIRTUAL, boxed, pt.getName() + "Value", "()" + Type.getDescriptor(pt));
+            } else if(Object.class != pt) {
+                mv.visitTypeInsn(CHECKCAST, Type.getInternalName(pt));
+            }
+        }
+        mv.visitMethodInsn(INVOKESPECIAL, owner, "<init>", constructorDescriptor(params));
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        Class<?> generated = new GeneratorClassLoader(clazz.getClassLoader()).define(name, cw.toByteArray());
+        return (Instantiator<T>) generated.newInstance();
+    }
+
+    private static String constructorDescriptor(Class<?>[] params) {
+        StringBuilder sb = new StringBuilder("(");
+        for(Class<?> pt : params) {
+            sb.append(Type.getDescriptor(pt));
+        }
+        return sb.append(")V").toString();
+    }
+}
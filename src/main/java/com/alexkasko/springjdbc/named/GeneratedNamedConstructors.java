@@ -0,0 +1,46 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Base class for named constructors metadata generated at compile time by
+ * {@code springjdbc-constructor-mapper-processor} annotation processor. Generated class
+ * is named {@code <class binary name>_NamedConstructors} and is placed into the same package.
+ * It provides {@code @Named} values and parameter types of all named constructors and invokes
+ * them directly, so {@link NamedConstructorMapper} doesn't use reflection introspection and
+ * {@code setAccessible} for classes having generated metadata.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorList
+ */
+public abstract class GeneratedNamedConstructors<T> {
+    /**
+     * Suffix of generated classes names
+     */
+    public static final String SUFFIX = "_NamedConstructors";
+
+    /**
+     * @return class metadata was generated for
+     */
+    public abstract Class<T> targetClass();
+
+    /**
+     * @return lower case {@code @Named} values for each named constructor
+     */
+    public abstract String[][] names();
+
+    /**
+     * @return parameter types for each named constructor, in the same order as names
+     */
+    public abstract Class<?>[][] types();
+
+    /**
+     * Invokes named constructor directly
+     *
+     * @param constructorIndex constructor index in {@link #names()} array
+     * @param args arguments in constructor parameters order
+     * @return instantiated object
+     * @throws Exception on instantiation error
+     */
+    public abstract T instantiate(int constructorIndex, Object[] args) throws Exception;
+}
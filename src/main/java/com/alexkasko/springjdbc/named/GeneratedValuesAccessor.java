@@ -0,0 +1,120 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Type;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.springframework.asm.Opcodes.*;
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
+
+/**
+ * Factory for values accessors generated at runtime with direct field reads and accessor invocations.
+ * Generated class is defined in its own class loader (child of target class loader), so only public
+ * fields and accessors of public classes are supported, reflective accessor is used otherwise.
+ * Reflective accessor may be forced with {@code com.alexkasko.springjdbc.named.instantiator=reflection}
+ * system property.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see GeneratedInstantiator
+ */
+class GeneratedValuesAccessor {
+    private static final String STRATEGY_PROPERTY = "com.alexkasko.springjdbc.named.instantiator";
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private GeneratedValuesAccessor() {
+    }
+
+    /**
+     * Creates accessor for provided members, generated one if possible, reflective otherwise
+     *
+     * @param clazz class to read values from
+     * @param members fields or no-arg methods to read values with
+     * @param <T> object type
+     * @return accessor instance
+     */
+    static <T> ValuesAccessor<T> forMembers(Class<T> clazz, Member[] members) {
+        if("reflection".equals(System.getProperty(STRATEGY_PROPERTY))) return new ReflectionValuesAccessor<T>(members);
+        if(!isAccessible(clazz, members)) return new ReflectionValuesAccessor<T>(members);
+        try {
+            return generate(clazz, members);
+        } catch(Throwable e) {
+            // restricted environment, bytecode generation is not available
+            return new ReflectionValuesAccessor<T>(members);
+        }
+    }
+
+    private static boolean isAccessible(Class<?> clazz, Member[] members) {
+        if(null == clazz.getClassLoader()) return false;
+        if(!isPublic(clazz)) return false;
+        for(Member me : members) {
+            if(!Modifier.isPublic(me.getModifiers()) || !isPublic(me.getDeclaringClass())) return false;
+            Class<?> cl = type(me);
+            while(cl.isArray()) cl = cl.getComponentType();
+            if(!Modifier.isPublic(cl.getModifiers())) return false;
+        }
+        return true;
+    }
+
+    private static boolean isPublic(Class<?> clazz) {
+        for(Class<?> cl = clazz; null != cl; cl = cl.getEnclosingClass()) {
+            if(!Modifier.isPublic(cl.getModifiers())) return false;
+        }
+        return true;
+    }
+
+    private static Class<?> type(Member me) {
+        return me instanceof Field ? ((Field) me).getType() : ((Method) me).getReturnType();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ValuesAccessor<T> generate(Class<T> clazz, Member[] members) throws Exception {
+        String name = clazz.getName() + "$$NamedAccessor$" + COUNTER.incrementAndGet();
+        String owner = Type.getInternalName(clazz);
+        ClassWriter cw = new ClassWriter(true);
+        cw.visit(V1_5, ACC_PUBLIC | ACC_FINAL | ACC_SUPER, name.replace('.', '/'), null, "java/lang/Object",
+                new String[]{Type.getInternalName(ValuesAccessor.class)});
+        MethodVisitor init = cw.visitMethod(ACC_PUBLIC, "<init>", "()V", null, null);
+        init.visitCode();
+        init.visitVarInsn(ALOAD, 0);
+        init.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V");
+        init.visitInsn(RETURN);
+        init.visitMaxs(0, 0);
+        init.visitEnd();
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "values", "(Ljava/lang/Object;[Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitTypeInsn(CHECKCAST, owner);
+        mv.visitVarInsn(ASTORE, 3);
+        for(int i = 0; i < members.length; i++) {
+            Member me = members[i];
+            Class<?> type = type(me);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitLdcInsn(i);
+            mv.visitVarInsn(ALOAD, 3);
+            if(me instanceof Field) {
+                mv.visitFieldInsn(GETFIELD, owner, me.getName(), Type.getDescriptor(type));
+            } else {
+                mv.visitMethodInsn(clazz.isInterface() ? INVOKEINTERFACE : INVOKEVIRTUAL, owner, me.getName(),
+                        "()" + Type.getDescriptor(type));
+            }
+            if(type.isPrimitive()) {
+                String boxed = Type.getInternalName(resolvePrimitiveIfNecessary(type));
+                mv.visitMethodInsn(INVOKESTATIC, boxed, "valueOf", "(" + Type.getDescriptor(type) + ")L" + boxed + ";");
+            }
+            mv.visitInsn(AASTORE);
+        }
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+        cw.visitEnd();
+        Class<?> generated = new GeneratorClassLoader(clazz.getClassLoader()).define(name, cw.toByteArray());
+        return (ValuesAccessor<T>) generated.newInstance();
+    }
+}
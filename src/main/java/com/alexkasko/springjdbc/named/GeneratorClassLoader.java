@@ -0,0 +1,43 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Class loader for runtime generated classes, child of target class loader. Sees target class loader
+ * classes and library interfaces implemented by generated classes.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see GeneratedInstantiator
+ * @see GeneratedValuesAccessor
+ */
+class GeneratorClassLoader extends ClassLoader {
+
+    /**
+     * Constructor
+     *
+     * @param parent target class loader
+     */
+    GeneratorClassLoader(ClassLoader parent) {
+        super(parent);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if(Instantiator.class.getName().equals(name)) return Instantiator.class;
+        if(ValuesAccessor.class.getName().equals(name)) return ValuesAccessor.class;
+        return super.loadClass(name, resolve);
+    }
+
+    /**
+     * Defines generated class
+     *
+     * @param name class name
+     * @param bytes class bytecode
+     * @return defined class
+     */
+    Class<?> define(String name, byte[] bytes) {
+        return defineClass(name, bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,24 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Instantiation strategy for named constructor. Implementations are created by the library
+ * once per constructor on {@link NamedConstructorMapper} creation, this interface is public only
+ * to be accessible from runtime generated classes.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see ReflectionInstantiator
+ * @see GeneratedInstantiator
+ */
+public interface Instantiator<T> {
+
+    /**
+     * Invokes constructor with provided arguments
+     *
+     * @param args arguments in constructor parameters order
+     * @return instantiated object
+     * @throws Exception on instantiation error
+     */
+    T instantiate(Object[] args) throws Exception;
+}
@@ -0,0 +1,98 @@
+package com.alexkasko.springjdbc.named;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Plan wrapper reporting mapped rows, sampled latencies and errors to {@link MapperListener}.
+ * Sampling counter is not synchronized as plans are used with single result set.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class ListeningPlan<T> implements RowPlan<T> {
+    private final RowPlan<T> plan;
+    private final MapperListener listener;
+    private final Class<T> clazz;
+    private final String signature;
+    private final int sampleInterval;
+    private int counter;
+
+    /**
+     * Constructor
+     *
+     * @param plan plan to wrap
+     * @param constructor constructor chosen by plan
+     * @param listener listener
+     */
+    ListeningPlan(RowPlan<T> plan, NamedConstructor<T> constructor, MapperListener listener) {
+        this.plan = plan;
+        this.listener = listener;
+        this.clazz = constructor.clazz;
+        this.signature = constructor.signature;
+        this.sampleInterval = listener.sampleInterval();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T invoke(ResultSet rs) throws SQLException {
+        boolean sample = false;
+        if(sampleInterval > 0) {
+            sample = 0 == counter;
+            if(++counter == sampleInterval) counter = 0;
+        }
+        long start = sample ? System.nanoTime() : 0;
+        try {
+            T res = plan.invoke(rs);
+            listener.mapped(clazz, signature, sample ? System.nanoTime() - start : -1);
+            return res;
+        } catch(SQLException e) {
+            listener.failed(clazz, signature, e);
+            throw e;
+        } catch(RuntimeException e) {
+            listener.failed(clazz, signature, e);
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RowData<T> read(ResultSet rs) throws SQLException {
+        try {
+            RowData<T> res = plan.read(rs);
+            listener.mapped(clazz, signature, -1);
+            return res;
+        } catch(SQLException e) {
+            listener.failed(clazz, signature, e);
+            throw e;
+        } catch(RuntimeException e) {
+            listener.failed(clazz, signature, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Resolves wrapped plan, arguments access without instantiation is not reported to listener
+     *
+     * @param rs result set this plan was created for
+     * @return constructor plan for current row
+     * @throws SQLException on column value access error
+     */
+    @Override
+    public NamedConstructorPlan<? extends T> resolve(ResultSet rs) throws SQLException {
+        return plan.resolve(rs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStreaming() {
+        return plan.isStreaming();
+    }
+}
@@ -0,0 +1,91 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.support.lob.LobHandler;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Lazy handle to BLOB or CLOB column of current result set row, may be used as {@code @Named} constructor
+ * argument type to choose between streaming and materialization in constructor. LOB contents are not read
+ * until one of the access methods is called. Access methods use Spring's {@code LobHandler} configured
+ * for mapper ({@code DefaultLobHandler} by default). Handle is valid only while its row is current,
+ * so it must be consumed in constructor or in {@link NamedRowCallbackHandler} callback.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#withLobHandler(org.springframework.jdbc.support.lob.LobHandler)
+ * @see NamedRowCallbackHandler
+ */
+public class LobHandle {
+    private final ResultSet rs;
+    private final int index;
+    private final LobHandler lobHandler;
+
+    /**
+     * Constructor
+     *
+     * @param rs result set
+     * @param index 1-based column index
+     * @param lobHandler LOB handler
+     */
+    LobHandle(ResultSet rs, int index, LobHandler lobHandler) {
+        this.rs = rs;
+        this.index = index;
+        this.lobHandler = lobHandler;
+    }
+
+    /**
+     * @return BLOB contents as stream, may be null
+     * @throws SQLException on LOB access error
+     */
+    public InputStream getBinaryStream() throws SQLException {
+        return lobHandler.getBlobAsBinaryStream(rs, index);
+    }
+
+    /**
+     * @return BLOB contents as bytes, may be null
+     * @throws SQLException on LOB access error
+     */
+    public byte[] getBytes() throws SQLException {
+        return lobHandler.getBlobAsBytes(rs, index);
+    }
+
+    /**
+     * @return CLOB contents as character stream, may be null
+     * @throws SQLException on LOB access error
+     */
+    public Reader getCharacterStream() throws SQLException {
+        return lobHandler.getClobAsCharacterStream(rs, index);
+    }
+
+    /**
+     * @return CLOB contents as ASCII stream, may be null
+     * @throws SQLException on LOB access error
+     */
+    public InputStream getAsciiStream() throws SQLException {
+        return lobHandler.getClobAsAsciiStream(rs, index);
+    }
+
+    /**
+     * @return CLOB contents as string, may be null
+     * @throws SQLException on LOB access error
+     */
+    public String getString() throws SQLException {
+        return lobHandler.getClobAsString(rs, index);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("LobHandle");
+        sb.append("{index=").append(index);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,109 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+
+import static com.alexkasko.springjdbc.named.LongKeyedResultSetExtractor.grownLength;
+import static com.alexkasko.springjdbc.named.LongKeyedResultSetExtractor.keyIndex;
+import static com.alexkasko.springjdbc.named.LongKeyedResultSetExtractor.readKey;
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * {@code ResultSetExtractor} grouping mapped objects by primitive {@code long} key column values into
+ * read-only multimap. Key column is read with {@code rs.getLong}, so keys are not boxed, objects of each group
+ * are stored contiguously in single array in original rows order, no per-group lists are created.
+ * Result set doesn't need to be ordered by key column. Key column values must be not null.
+ * Extractor instances are thread-safe.
+ *
+ * <pre>
+ * LongKeyedGroups&lt;Line&gt; lines = jt.query("select * from lines",
+ *         new LongGroupingResultSetExtractor&lt;Line&gt;(NamedConstructorMapper.forClass(Line.class), "order_id"));
+ * for(Line li : lines.get(42)) { ... }
+ * </pre>
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LongKeyedResultSetExtractor
+ */
+public class LongGroupingResultSetExtractor<T> implements ResultSetExtractor<LongKeyedGroups<T>> {
+    private final NamedConstructorMapper<T> mapper;
+    private final String keyColumn;
+    private final int expectedRows;
+
+    /**
+     * Constructor
+     *
+     * @param mapper named constructor mapper
+     * @param keyColumn key column name
+     */
+    public LongGroupingResultSetExtractor(NamedConstructorMapper<T> mapper, String keyColumn) {
+        this(mapper, keyColumn, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mapper named constructor mapper
+     * @param keyColumn key column name
+     * @param expectedRows expected rows count, used to presize buffers
+     */
+    public LongGroupingResultSetExtractor(NamedConstructorMapper<T> mapper, String keyColumn, int expectedRows) {
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(!hasText(keyColumn)) throw new IllegalArgumentException("Provided key column is blank");
+        if(expectedRows < 0) throw new IllegalArgumentException("Provided expected rows is negative: '" + expectedRows + "'");
+        this.mapper = mapper;
+        this.keyColumn = keyColumn.toLowerCase(Locale.ENGLISH);
+        this.expectedRows = expectedRows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongKeyedGroups<T> extractData(ResultSet rs) throws SQLException {
+        int keyIndex = keyIndex(rs, keyColumn);
+        RowPlan<T> plan = mapper.plan(rs);
+        LongIndex index = new LongIndex(0);
+        int capacity = Math.max(expectedRows, 16);
+        int[] rowGroups = new int[capacity];
+        Object[] rowValues = new Object[capacity];
+        int[] counts = new int[16];
+        int rows = 0;
+        while(rs.next()) {
+            long key = readKey(rs, keyIndex, keyColumn);
+            if(index.isFull()) index = index.grow();
+            int group = index.putIfAbsent(key, index.size());
+            if(group < 0) {
+                group = index.size() - 1;
+                if(group == counts.length) counts = Arrays.copyOf(counts, grownLength(group));
+            }
+            counts[group] += 1;
+            if(rows == rowValues.length) {
+                int len = grownLength(rows);
+                rowGroups = Arrays.copyOf(rowGroups, len);
+                rowValues = Arrays.copyOf(rowValues, len);
+            }
+            rowGroups[rows] = group;
+            rowValues[rows] = plan.invoke(rs);
+            rows += 1;
+        }
+        int groups = index.size();
+        int[] offsets = new int[groups + 1];
+        for(int i = 0; i < groups; i++) {
+            offsets[i + 1] = offsets[i] + counts[i];
+        }
+        // counts are reused as fill positions
+        System.arraycopy(offsets, 0, counts, 0, groups);
+        Object[] values = new Object[rows];
+        for(int i = 0; i < rows; i++) {
+            values[counts[rowGroups[i]]++] = rowValues[i];
+            rowValues[i] = null;
+        }
+        return new LongKeyedGroups<T>(index, offsets, values);
+    }
+}
@@ -0,0 +1,128 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Open-addressing hash index from primitive {@code long} keys to {@code int} positions with linear probing.
+ * Keys are not boxed and no entry objects are created. Index is filled by single thread
+ * and grown by copying, after filling it's read-only and may be read concurrently once safely published.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LongKeyedMap
+ * @see LongKeyedGroups
+ */
+class LongIndex {
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final long[] keys;
+    // position + 1, 0 for empty slot
+    private final int[] positions;
+    private final int mask;
+    private final int threshold;
+    private int size;
+
+    /**
+     * Constructor
+     *
+     * @param expectedSize expected keys count
+     */
+    LongIndex(int expectedSize) {
+        if(expectedSize < 0) throw new IllegalArgumentException("Provided expected size is negative: '" + expectedSize + "'");
+        long required = Math.max(16L, (long) expectedSize * 4 / 3 + 1);
+        if(required > MAX_CAPACITY) throw new IllegalArgumentException("Too big expected size: '" + expectedSize + "'");
+        int capacity = Integer.highestOneBit((int) required);
+        if(capacity < required) capacity <<= 1;
+        this.keys = new long[capacity];
+        this.positions = new int[capacity];
+        this.mask = capacity - 1;
+        this.threshold = capacity / 4 * 3;
+    }
+
+    private LongIndex(long[] keys, int[] positions) {
+        this.keys = keys;
+        this.positions = positions;
+        this.mask = keys.length - 1;
+        this.threshold = keys.length / 4 * 3;
+    }
+
+    /**
+     * @return keys count
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param key key
+     * @return position for key or {@code -1} if key is absent
+     */
+    int get(long key) {
+        int slot = hash(key) & mask;
+        for(;;) {
+            int pos = positions[slot];
+            if(0 == pos) return -1;
+            if(keys[slot] == key) return pos - 1;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * Puts position for key if key is absent, index must be grown if {@link #isFull()}
+     *
+     * @param key key
+     * @param position non-negative position
+     * @return existing position for key or {@code -1} if provided position was put
+     */
+    int putIfAbsent(long key, int position) {
+        int slot = hash(key) & mask;
+        for(;;) {
+            int pos = positions[slot];
+            if(0 == pos) {
+                keys[slot] = key;
+                positions[slot] = position + 1;
+                size += 1;
+                return -1;
+            }
+            if(keys[slot] == key) return pos - 1;
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    /**
+     * @return whether index must be grown before next put
+     */
+    boolean isFull() {
+        return size >= threshold;
+    }
+
+    /**
+     * @return new index with doubled capacity containing all entries of this index
+     */
+    LongIndex grow() {
+        if(positions.length >= MAX_CAPACITY) throw new IllegalStateException("Index capacity exceeded: '" + size + "'");
+        LongIndex res = new LongIndex(new long[keys.length * 2], new int[positions.length * 2]);
+        for(int i = 0; i < positions.length; i++) {
+            if(0 != positions[i]) res.putIfAbsent(keys[i], positions[i] - 1);
+        }
+        return res;
+    }
+
+    /**
+     * @return keys in slots order
+     */
+    long[] keys() {
+        long[] res = new long[size];
+        int ind = 0;
+        for(int i = 0; i < positions.length; i++) {
+            if(0 != positions[i]) res[ind++] = keys[i];
+        }
+        return res;
+    }
+
+    private static int hash(long key) {
+        long h = key;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return (int) h;
+    }
+}
@@ -0,0 +1,115 @@
+package com.alexkasko.springjdbc.named;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Read-only multimap from primitive {@code long} keys to groups of objects. Keys are not boxed,
+ * objects of all groups are stored in single array with each group occupying contiguous range
+ * in original rows order. Instances are immutable and thread-safe.
+ *
+ * @param <T> value type
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LongGroupingResultSetExtractor
+ */
+public class LongKeyedGroups<T> {
+    private final LongIndex index;
+    // group start offsets, offsets[groupsCount] is values count
+    private final int[] offsets;
+    private final Object[] values;
+
+    /**
+     * Package-private constructor
+     *
+     * @param index keys index, positions are group numbers
+     * @param offsets group start offsets with trailing values count
+     * @param values values ordered by groups
+     */
+    LongKeyedGroups(LongIndex index, int[] offsets, Object[] values) {
+        this.index = index;
+        this.offsets = offsets;
+        this.values = values;
+    }
+
+    /**
+     * @param key key
+     * @return objects count for key, {@code 0} if key is absent
+     */
+    public int count(long key) {
+        int gr = index.get(key);
+        return gr >= 0 ? offsets[gr + 1] - offsets[gr] : 0;
+    }
+
+    /**
+     * Accesses group element without creating group list
+     *
+     * @param key key
+     * @param position position inside the group
+     * @return group element
+     * @throws IndexOutOfBoundsException if key is absent or position is out of group bounds
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long key, int position) {
+        int gr = index.get(key);
+        int count = gr >= 0 ? offsets[gr + 1] - offsets[gr] : 0;
+        if(position < 0 || position >= count) throw new IndexOutOfBoundsException(
+                "Invalid position: '" + position + "', key: '" + key + "', group size: '" + count + "'");
+        return (T) values[offsets[gr] + position];
+    }
+
+    /**
+     * @param key key
+     * @return unmodifiable list view over group, empty list if key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public List<T> get(long key) {
+        int gr = index.get(key);
+        if(gr < 0) return Collections.emptyList();
+        List<Object> list = Arrays.asList(values).subList(offsets[gr], offsets[gr + 1]);
+        return (List<T>) Collections.unmodifiableList(list);
+    }
+
+    /**
+     * @param key key
+     * @return whether map contains key
+     */
+    public boolean containsKey(long key) {
+        return index.get(key) >= 0;
+    }
+
+    /**
+     * @return keys count
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * @return objects count in all groups
+     */
+    public int valuesCount() {
+        return values.length;
+    }
+
+    /**
+     * @return new array with all keys in unspecified order
+     */
+    public long[] keys() {
+        return index.keys();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("LongKeyedGroups");
+        sb.append("{size=").append(size());
+        sb.append(", valuesCount=").append(values.length);
+        sb.append('}');
+        return sb.toString();
+    }
+}
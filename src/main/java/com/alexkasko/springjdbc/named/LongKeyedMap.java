@@ -0,0 +1,70 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Read-only map from primitive {@code long} keys to objects, keys are not boxed and no entry objects
+ * are created, objects are stored in single compact array. Instances are immutable and thread-safe.
+ *
+ * @param <T> value type
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LongKeyedResultSetExtractor
+ */
+public class LongKeyedMap<T> {
+    private final LongIndex index;
+    private final Object[] values;
+
+    /**
+     * Package-private constructor
+     *
+     * @param index keys index, positions point into values array
+     * @param values values array
+     */
+    LongKeyedMap(LongIndex index, Object[] values) {
+        this.index = index;
+        this.values = values;
+    }
+
+    /**
+     * @param key key
+     * @return value for key or null if key is absent
+     */
+    @SuppressWarnings("unchecked")
+    public T get(long key) {
+        int pos = index.get(key);
+        return pos >= 0 ? (T) values[pos] : null;
+    }
+
+    /**
+     * @param key key
+     * @return whether map contains key
+     */
+    public boolean containsKey(long key) {
+        return index.get(key) >= 0;
+    }
+
+    /**
+     * @return entries count
+     */
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * @return new array with all keys in unspecified order
+     */
+    public long[] keys() {
+        return index.keys();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("LongKeyedMap");
+        sb.append("{size=").append(values.length);
+        sb.append('}');
+        return sb.toString();
+    }
+}
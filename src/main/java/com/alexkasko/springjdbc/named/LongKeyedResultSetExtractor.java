@@ -0,0 +1,127 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * {@code ResultSetExtractor} building read-only lookup map from primitive {@code long} key column values
+ * to mapped objects. Key column is read with {@code rs.getLong} (integral columns of smaller types may be used too),
+ * so keys are not boxed and no map entries are created. Key column values must be unique and not null.
+ * Key column may be also used as constructor argument. Extractor instances are thread-safe.
+ *
+ * <pre>
+ * LongKeyedMap&lt;Product&gt; products = jt.query("select * from products",
+ *         new LongKeyedResultSetExtractor&lt;Product&gt;(NamedConstructorMapper.forClass(Product.class), "id"));
+ * Product pr = products.get(42);
+ * </pre>
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LongGroupingResultSetExtractor
+ */
+public class LongKeyedResultSetExtractor<T> implements ResultSetExtractor<LongKeyedMap<T>> {
+    private final NamedConstructorMapper<T> mapper;
+    private final String keyColumn;
+    private final int expectedSize;
+
+    /**
+     * Constructor
+     *
+     * @param mapper named constructor mapper
+     * @param keyColumn key column name
+     */
+    public LongKeyedResultSetExtractor(NamedConstructorMapper<T> mapper, String keyColumn) {
+        this(mapper, keyColumn, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mapper named constructor mapper
+     * @param keyColumn key column name
+     * @param expectedSize expected rows count, used to presize map
+     */
+    public LongKeyedResultSetExtractor(NamedConstructorMapper<T> mapper, String keyColumn, int expectedSize) {
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(!hasText(keyColumn)) throw new IllegalArgumentException("Provided key column is blank");
+        if(expectedSize < 0) throw new IllegalArgumentException("Provided expected size is negative: '" + expectedSize + "'");
+        this.mapper = mapper;
+        this.keyColumn = keyColumn.toLowerCase(Locale.ENGLISH);
+        this.expectedSize = expectedSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public LongKeyedMap<T> extractData(ResultSet rs) throws SQLException {
+        int keyIndex = keyIndex(rs, keyColumn);
+        RowPlan<T> plan = mapper.plan(rs);
+        LongIndex index = new LongIndex(expectedSize);
+        Object[] values = new Object[Math.max(expectedSize, 16)];
+        int size = 0;
+        while(rs.next()) {
+            long key = readKey(rs, keyIndex, keyColumn);
+            if(index.isFull()) index = index.grow();
+            if(index.putIfAbsent(key, size) >= 0) throw new IllegalArgumentException(
+                    "Duplicate key: '" + key + "', column: '" + keyColumn + "'");
+            if(size == values.length) values = Arrays.copyOf(values, grownLength(size));
+            values[size++] = plan.invoke(rs);
+        }
+        return new LongKeyedMap<T>(index, size == values.length ? values : Arrays.copyOf(values, size));
+    }
+
+    /**
+     * Resolves key column index
+     *
+     * @param rs result set
+     * @param keyColumn lower case key column name
+     * @return 1-based key column index
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException on absent key column
+     */
+    static int keyIndex(ResultSet rs, String keyColumn) throws SQLException {
+        Map<String, Integer> columns = NamedConstructorList.columns(rs.getMetaData());
+        Integer res = columns.get(keyColumn);
+        if(null == res) throw new IllegalArgumentException(
+                "Absent key column: '" + keyColumn + "' in result set columns: '" + columns.keySet() + "'");
+        return res;
+    }
+
+    /**
+     * Reads key of current row
+     *
+     * @param rs result set
+     * @param keyIndex 1-based key column index
+     * @param keyColumn key column name for error message
+     * @return key value
+     * @throws SQLException on column value access error
+     * @throws IllegalArgumentException on null key
+     */
+    static long readKey(ResultSet rs, int keyIndex, String keyColumn) throws SQLException {
+        long res = rs.getLong(keyIndex);
+        if(rs.wasNull()) throw new IllegalArgumentException("Null value of key column: '" + keyColumn + "'");
+        return res;
+    }
+
+    /**
+     * @param length current array length
+     * @return grown array length
+     */
+    static int grownLength(int length) {
+        int res = length + (length >> 1);
+        if(res < 0 || res > Integer.MAX_VALUE - 8) {
+            if(length == Integer.MAX_VALUE - 8) throw new IllegalStateException("Array length exceeded: '" + length + "'");
+            return Integer.MAX_VALUE - 8;
+        }
+        return res;
+    }
+}
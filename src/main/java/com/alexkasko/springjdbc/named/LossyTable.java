@@ -0,0 +1,80 @@
+package com.alexkasko.springjdbc.named;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded lock-free direct-mapped table, each key hash maps to single slot and new entries overwrite
+ * existing ones on collisions. Used for values canonicalization and instances reuse, where missing
+ * entries only cause extra allocations. Table size is fixed on creation, so retained memory is bounded.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see MapperOptions
+ */
+class LossyTable {
+    private final AtomicReferenceArray<Entry> entries;
+    private final int mask;
+
+    /**
+     * Constructor
+     *
+     * @param capacity slots count, rounded up to power of two
+     */
+    LossyTable(int capacity) {
+        if(capacity <= 0 || capacity > 1 << 30) throw new IllegalArgumentException("Invalid table capacity: '" + capacity + "'");
+        int size = Integer.highestOneBit(capacity);
+        if(size < capacity) size <<= 1;
+        this.entries = new AtomicReferenceArray<Entry>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * @param key key, not null
+     * @return value for key or null if key is absent
+     */
+    Object get(Object key) {
+        Entry en = entries.get(index(key));
+        return null != en && key.equals(en.key) ? en.value : null;
+    }
+
+    /**
+     * Puts value replacing existing entry in key slot
+     *
+     * @param key key, not null
+     * @param value value, not null
+     */
+    void put(Object key, Object value) {
+        entries.lazySet(index(key), new Entry(key, value));
+    }
+
+    /**
+     * Returns equal value already existed in table or puts provided value into table
+     *
+     * @param value value, may be null
+     * @return canonical value
+     */
+    Object canonical(Object value) {
+        if(null == value) return null;
+        Object existed = get(value);
+        if(null != existed) return existed;
+        put(value, value);
+        return value;
+    }
+
+    private int index(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 20) ^ (h >>> 12);
+        h ^= (h >>> 7) ^ (h >>> 4);
+        return h & mask;
+    }
+
+    private static class Entry {
+        private final Object key;
+        private final Object value;
+
+        private Entry(Object key, Object value) {
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
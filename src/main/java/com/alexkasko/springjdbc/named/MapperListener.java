@@ -0,0 +1,44 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Listener for mapper events, may be attached to mapper using {@link NamedConstructorMapper#withListener(MapperListener)}.
+ * Methods are called from mapping threads on each row and must be cheap and thread-safe.
+ * Mappers without listener (default) are not instrumented and have no overhead.
+ * Rows read by {@link ParallelResultSetExtractor} are reported without latency, instantiation
+ * failures in executor threads are not reported. Errors on plan creation (no constructor matches
+ * result set columns, column type mismatch, converter lookup) are reported once per result set
+ * without constructor signature. Subclasses mapper errors on choosing subclass (absent, null or unknown
+ * discriminator) are reported without class and constructor signature.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see MapperMetrics
+ */
+public interface MapperListener {
+
+    /**
+     * Called once per result set
+     *
+     * @return mapping latency is measured for each N-th row of result set starting with the first one,
+     * non-positive value disables latency measurement
+     */
+    int sampleInterval();
+
+    /**
+     * Called after successful row mapping
+     *
+     * @param clazz instantiated class
+     * @param constructor chosen constructor signature
+     * @param nanos mapping latency in nanoseconds, {@code -1} if row was not sampled
+     */
+    void mapped(Class<?> clazz, String constructor, long nanos);
+
+    /**
+     * Called on row mapping or plan creation error, error is rethrown to caller after this call
+     *
+     * @param clazz class to instantiate, {@code null} if subclass was not chosen
+     * @param constructor chosen constructor signature, {@code null} for plan creation errors
+     * @param error mapping error
+     */
+    void failed(Class<?> clazz, String constructor, Throwable error);
+}
@@ -0,0 +1,192 @@
+package com.alexkasko.springjdbc.named;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Mapper listener collecting metrics: mapped rows count for each class and for each constructor,
+ * sampled mapping latency histograms with power of two buckets for each constructor and
+ * errors count by root cause class. Thread-safe, single instance may be attached to multiple mappers.
+ * Implements MXBean interface so instance may be registered in MBean server as is:
+ *
+ * <pre>
+ * MapperMetrics metrics = new MapperMetrics();
+ * ManagementFactory.getPlatformMBeanServer().registerMBean(metrics, new ObjectName("myapp:type=MapperMetrics"));
+ * RowMapper&lt;Foo&gt; mapper = NamedConstructorMapper.forClass(Foo.class).withListener(metrics);
+ * </pre>
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see MapperListener
+ * @see NamedConstructorMapper#withListener(MapperListener)
+ */
+public class MapperMetrics implements MapperListener, MapperMetricsMXBean {
+    /**
+     * Default latency sample interval
+     */
+    public static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    private static final int BUCKETS_COUNT = 64;
+
+    private final int sampleInterval;
+    // keyed by name to not retain classes from redeployed class loaders
+    private final ConcurrentMap<String, AtomicLong> classes = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, ConstructorStats> constructors = new ConcurrentHashMap<String, ConstructorStats>();
+    private final ConcurrentMap<String, AtomicLong> failures = new ConcurrentHashMap<String, AtomicLong>();
+
+    /**
+     * Constructor, uses {@link #DEFAULT_SAMPLE_INTERVAL}
+     */
+    public MapperMetrics() {
+        this(DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param sampleInterval latency is measured for each N-th row of result set, non-positive value
+     * disables latency measurement
+     */
+    public MapperMetrics(int sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int sampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mapped(Class<?> clazz, String constructor, long nanos) {
+        String name = clazz.getName();
+        AtomicLong cl = classes.get(name);
+        if(null == cl) cl = putIfAbsent(classes, name, new AtomicLong());
+        cl.incrementAndGet();
+        ConstructorStats st = constructors.get(constructor);
+        if(null == st) st = putIfAbsent(constructors, constructor, new ConstructorStats());
+        st.rows.incrementAndGet();
+        if(nanos >= 0) st.latency.incrementAndGet(bucket(nanos));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void failed(Class<?> clazz, String constructor, Throwable error) {
+        Throwable cause = error;
+        while(null != cause.getCause() && cause != cause.getCause()) {
+            cause = cause.getCause();
+        }
+        String key = cause.getClass().getName();
+        AtomicLong fa = failures.get(key);
+        if(null == fa) fa = putIfAbsent(failures, key, new AtomicLong());
+        fa.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int getSampleInterval() {
+        return sampleInterval;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getRowsByClass() {
+        Map<String, Long> res = new TreeMap<String, Long>();
+        for(Map.Entry<String, AtomicLong> en : classes.entrySet()) {
+            res.put(en.getKey(), en.getValue().get());
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getRowsByConstructor() {
+        Map<String, Long> res = new TreeMap<String, Long>();
+        for(Map.Entry<String, ConstructorStats> en : constructors.entrySet()) {
+            res.put(en.getKey(), en.getValue().rows.get());
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, long[]> getLatencyHistograms() {
+        Map<String, long[]> res = new TreeMap<String, long[]>();
+        for(Map.Entry<String, ConstructorStats> en : constructors.entrySet()) {
+            AtomicLongArray latency = en.getValue().latency;
+            long[] hist = new long[BUCKETS_COUNT];
+            for(int i = 0; i < BUCKETS_COUNT; i++) {
+                hist[i] = latency.get(i);
+            }
+            res.put(en.getKey(), hist);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, Long> getFailuresByCause() {
+        Map<String, Long> res = new TreeMap<String, Long>();
+        for(Map.Entry<String, AtomicLong> en : failures.entrySet()) {
+            res.put(en.getKey(), en.getValue().get());
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        classes.clear();
+        constructors.clear();
+        failures.clear();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("MapperMetrics");
+        sb.append("{rowsByConstructor=").append(getRowsByConstructor());
+        sb.append(", failuresByCause=").append(getFailuresByCause());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private static int bucket(long nanos) {
+        return Math.min(BUCKETS_COUNT - 1, 64 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    private static <K, V> V putIfAbsent(ConcurrentMap<K, V> map, K key, V value) {
+        V existed = map.putIfAbsent(key, value);
+        return null != existed ? existed : value;
+    }
+
+    private static class ConstructorStats {
+        private final AtomicLong rows = new AtomicLong();
+        private final AtomicLongArray latency = new AtomicLongArray(BUCKETS_COUNT);
+    }
+}
@@ -0,0 +1,43 @@
+package com.alexkasko.springjdbc.named;
+
+import java.util.Map;
+
+/**
+ * JMX interface for {@link MapperMetrics}
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+public interface MapperMetricsMXBean {
+
+    /**
+     * @return latency sample interval in rows
+     */
+    int getSampleInterval();
+
+    /**
+     * @return class name -> mapped rows count mapping
+     */
+    Map<String, Long> getRowsByClass();
+
+    /**
+     * @return constructor signature -> mapped rows count mapping
+     */
+    Map<String, Long> getRowsByConstructor();
+
+    /**
+     * @return constructor signature -> latency histogram mapping, histogram bucket {@code i}
+     * contains count of sampled rows mapped in {@code [2^(i-1), 2^i)} nanoseconds
+     */
+    Map<String, long[]> getLatencyHistograms();
+
+    /**
+     * @return root cause class name -> mapping errors count mapping
+     */
+    Map<String, Long> getFailuresByCause();
+
+    /**
+     * Resets all collected metrics
+     */
+    void reset();
+}
@@ -0,0 +1,225 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.support.lob.LobHandler;
+
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Immutable optional mapper settings: listener, canonical columns, instances reuse key column, LOB handler
+ * and value converters. Creates plans for mappers according to these settings, plans are not wrapped
+ * with default settings.
+ * Canonicalization table is shared by all plans of the mapper. Instance reuse table is created for each plan
+ * by default, so instances are reused only within single result set. Shared instance reuse tables are created
+ * for each constructor and live as long as the mapper, so instances are reused across result sets with the same
+ * chosen constructor until {@link #clearReuseTables()} is called.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#withListener(MapperListener)
+ * @see NamedConstructorMapper#withCanonicalColumns(String...)
+ * @see NamedConstructorMapper#withInstanceReuse(String)
+ * @see NamedConstructorMapper#withLobHandler(org.springframework.jdbc.support.lob.LobHandler)
+ * @see NamedConstructorMapper#withConverters(ConverterRegistry)
+ */
+class MapperOptions {
+    /**
+     * Default canonicalization and instance reuse tables size
+     */
+    static final int DEFAULT_TABLE_SIZE = 4096;
+    /**
+     * Default settings
+     */
+    static final MapperOptions DEFAULT = new MapperOptions(null, Collections.<String>emptySet(), null, null, 0, false,
+            null, ConverterRegistry.DEFAULTS);
+
+    /**
+     * mapping events listener, may be null
+     */
+    final MapperListener listener;
+    private final Set<String> canonicalColumns;
+    private final LossyTable canonicalTable;
+    private final String reuseKeyColumn;
+    private final int reuseTableSize;
+    private final boolean reuseShared;
+    private final LobHandler lobHandler;
+    private final ConverterRegistry converters;
+    private final ConcurrentMap<String, LossyTable> reuseTables = new ConcurrentHashMap<String, LossyTable>();
+
+    private MapperOptions(MapperListener listener, Set<String> canonicalColumns, LossyTable canonicalTable,
+                          String reuseKeyColumn, int reuseTableSize, boolean reuseShared, LobHandler lobHandler,
+                          ConverterRegistry converters) {
+        this.listener = listener;
+        this.canonicalColumns = canonicalColumns;
+        this.canonicalTable = canonicalTable;
+        this.reuseKeyColumn = reuseKeyColumn;
+        this.reuseTableSize = reuseTableSize;
+        this.reuseShared = reuseShared;
+        this.lobHandler = lobHandler;
+        this.converters = converters;
+    }
+
+    /**
+     * @param listener mapping events listener
+     * @return copy of these settings with provided listener
+     */
+    MapperOptions withListener(MapperListener listener) {
+        if(null == listener) throw new IllegalArgumentException("Provided listener is null");
+        return new MapperOptions(listener, canonicalColumns, canonicalTable, reuseKeyColumn, reuseTableSize, reuseShared,
+                lobHandler, converters);
+    }
+
+    /**
+     * @param tableSize canonicalization table size
+     * @param columns columns to canonicalize values of
+     * @return copy of these settings with provided canonical columns and new canonicalization table
+     */
+    MapperOptions withCanonicalColumns(int tableSize, String[] columns) {
+        if(null == columns || 0 == columns.length) throw new IllegalArgumentException("Provided columns are empty");
+        Set<String> set = new HashSet<String>();
+        for(String co : columns) {
+            if(!hasText(co)) throw new IllegalArgumentException("Provided columns contain blank value");
+            set.add(co.toLowerCase(Locale.ENGLISH));
+        }
+        return new MapperOptions(listener, set, new LossyTable(tableSize), reuseKeyColumn, reuseTableSize, reuseShared,
+                lobHandler, converters);
+    }
+
+    /**
+     * @param keyColumn key column
+     * @param tableSize instance reuse table size for each plan or constructor
+     * @param shared whether instances are reused across result sets
+     * @return copy of these settings with provided reuse key column
+     */
+    MapperOptions withInstanceReuse(String keyColumn, int tableSize, boolean shared) {
+        if(!hasText(keyColumn)) throw new IllegalArgumentException("Provided key column is blank");
+        if(tableSize <= 0) throw new IllegalArgumentException("Invalid table size: '" + tableSize + "'");
+        return new MapperOptions(listener, canonicalColumns, canonicalTable, keyColumn.toLowerCase(Locale.ENGLISH), tableSize,
+                shared, lobHandler, converters);
+    }
+
+    /**
+     * @param lobHandler handler for LOB arguments
+     * @return copy of these settings with provided LOB handler
+     */
+    MapperOptions withLobHandler(LobHandler lobHandler) {
+        if(null == lobHandler) throw new IllegalArgumentException("Provided LOB handler is null");
+        return new MapperOptions(listener, canonicalColumns, canonicalTable, reuseKeyColumn, reuseTableSize, reuseShared,
+                lobHandler, converters);
+    }
+
+    /**
+     * @param converters value converters registry
+     * @return copy of these settings with provided converters
+     */
+    MapperOptions withConverters(ConverterRegistry converters) {
+        if(null == converters) throw new IllegalArgumentException("Provided converters registry is null");
+        return new MapperOptions(listener, canonicalColumns, canonicalTable, reuseKeyColumn, reuseTableSize, reuseShared,
+                lobHandler, converters);
+    }
+
+    /**
+     * Creates plan for result set with these settings, plan is not wrapped for default settings.
+     * Plan creation errors are reported to listener
+     *
+     * @param list constructors list
+     * @param rsmd result set metadata
+     * @param columns lower case column names to 1-based indices mapping
+     * @param <T> object type to instantiate
+     * @return mapping plan
+     * @throws SQLException on metadata access error
+     */
+    <T> RowPlan<T> plan(NamedConstructorList<T> list, ResultSetMetaData rsmd, Map<String, Integer> columns)
+            throws SQLException {
+        if(null == listener) return createPlan(list, rsmd, columns);
+        try {
+            return createPlan(list, rsmd, columns);
+        } catch(SQLException e) {
+            listener.failed(list.clazz, null, e);
+            throw e;
+        } catch(RuntimeException e) {
+            listener.failed(list.clazz, null, e);
+            throw e;
+        } catch(Error e) {
+            listener.failed(list.clazz, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Reports error on choosing class to instantiate (e.g. subclass discriminator errors) to listener
+     *
+     * @param error mapping error
+     * @param <E> error type
+     * @return provided error to be thrown by caller
+     */
+    <E extends Throwable> E failed(E error) {
+        if(null != listener) listener.failed(null, null, error);
+        return error;
+    }
+
+    private <T> RowPlan<T> createPlan(NamedConstructorList<T> list, ResultSetMetaData rsmd, Map<String, Integer> columns)
+            throws SQLException {
+        NamedConstructorPlan<T> plan = list.plan(rsmd, columns, converters);
+        if(null != lobHandler) plan = plan.withLobHandler(lobHandler);
+        RowPlan<T> res = plan;
+        int[] positions = canonicalPositions(plan.constructor);
+        LossyTable instances = null;
+        int keyIndex = 0;
+        if(null != reuseKeyColumn) {
+            Integer ki = columns.get(reuseKeyColumn);
+            if(null == ki) throw new IllegalArgumentException(
+                    "Absent key column: '" + reuseKeyColumn + "' in result set columns: '" + columns.keySet() + "'");
+            keyIndex = ki;
+            instances = reuseShared ? reuseTable(plan.constructor.signature) : new LossyTable(reuseTableSize);
+        }
+        if(positions.length > 0 || null != instances) {
+            res = new DeduplicatingPlan<T>(plan, canonicalTable, positions, instances, keyIndex);
+        }
+        if(null != listener) res = new ListeningPlan<T>(res, plan.constructor, listener);
+        return res;
+    }
+
+    /**
+     * Removes instances from shared instance reuse tables, instances reused within result sets
+     * are not affected
+     */
+    void clearReuseTables() {
+        reuseTables.clear();
+    }
+
+    private int[] canonicalPositions(NamedConstructor<?> nc) {
+        if(canonicalColumns.isEmpty()) return new int[0];
+        int count = 0;
+        for(String na : nc.names) {
+            if(canonicalColumns.contains(na)) count += 1;
+        }
+        int[] res = new int[count];
+        int pos = 0;
+        int ind = 0;
+        for(String na : nc.names) {
+            if(canonicalColumns.contains(na)) res[ind++] = pos;
+            pos += 1;
+        }
+        return res;
+    }
+
+    private LossyTable reuseTable(String signature) {
+        LossyTable res = reuseTables.get(signature);
+        if(null == res) {
+            LossyTable created = new LossyTable(reuseTableSize);
+            LossyTable existed = reuseTables.putIfAbsent(signature, created);
+            res = null != existed ? existed : created;
+        }
+        return res;
+    }
+}
@@ -1,13 +1,14 @@
 package com.alexkasko.springjdbc.named;
 
 import java.lang.reflect.Constructor;
+import java.util.Arrays;
 import java.util.LinkedHashSet;
-import java.util.Map;
+
+import static org.springframework.util.StringUtils.collectionToDelimitedString;
 
 /**
  * Contains constructor and list of arguments names for it.
- * Object can be instantiated from unordered data map using arguments names.
- * Input map keys may be in any case.
+ * Object is instantiated from arguments ordered using arguments names.
  * Object instantiated through constructor invocation without any field access so
  * it can be immutable with all fields defined as {@code final}
  *
@@ -18,13 +19,37 @@ import java.util.Map;
  */
 class NamedConstructor<T> {
     /**
-     * object constructor to use
+     * class to instantiate
+     */
+    final Class<T> clazz;
+    /**
+     * short constructor signature with class name and argument names
      */
-    private final Constructor<T> constructor;
+    final String signature;
+    /**
+     * object constructor description
+     */
+    private final String constructor;
+    /**
+     * instantiation strategy for constructor
+     */
+    private final Instantiator<T> instantiator;
     /**
      * list of argument names for constructor
      */
     final LinkedHashSet<String> names;
+    /**
+     * all constructor parameter types including synthetic ones
+     */
+    final Class<?>[] parameterTypes;
+    /**
+     * constructor parameter types for named arguments, synthetic parameters are skipped
+     */
+    final Class<?>[] types;
+    /**
+     * column readers chosen by parameter types
+     */
+    final ColumnReader[] readers;
 
     /**
      * @param constructor object constructor to use
@@ -32,33 +57,54 @@ class NamedConstructor<T> {
      */
     @SuppressWarnings("unchecked")
     NamedConstructor(Constructor<?> constructor, LinkedHashSet<String> names) {
-        this.constructor = (Constructor<T>) constructor;
-        if(!this.constructor.isAccessible()) constructor.setAccessible(true);
+        this((Class<T>) constructor.getDeclaringClass(), constructor.toString(), GeneratedInstantiator.forConstructor((Constructor<T>) constructor), names,
+                constructor.getParameterTypes(), namedTypes(constructor.getParameterTypes(), names.size()));
+    }
+
+    /**
+     * @param clazz class to instantiate
+     * @param constructor object constructor description
+     * @param instantiator instantiation strategy for constructor
+     * @param names list of argument names for constructor
+     * @param parameterTypes all constructor parameter types
+     * @param types constructor parameter types for named arguments
+     */
+    NamedConstructor(Class<T> clazz, String constructor, Instantiator<T> instantiator, LinkedHashSet<String> names,
+                     Class<?>[] parameterTypes, Class<?>[] types) {
+        this.clazz = clazz;
+        this.signature = clazz.getName() + "(" + collectionToDelimitedString(names, ", ") + ")";
+        this.constructor = constructor;
+        this.instantiator = instantiator;
         this.names = names;
+        this.parameterTypes = parameterTypes;
+        this.types = types;
+        this.readers = new ColumnReader[types.length];
+        for(int i = 0; i < types.length; i++) {
+            readers[i] = ColumnReader.forType(types[i]);
+        }
     }
 
     /**
-     * Instantiates object from unordered data map. Orders map values based on argument names order.
-     * Map keys may be in any case.
+     * Instantiates object from arguments already ordered based on argument names order.
      *
-     * @param input unordered data map
+     * @param args ordered arguments
      * @return instantiated object
      */
-    T invoke(Map<String, ?> input) {
+    T invoke(Object[] args) {
         try {
-            Object[] args = new Object[names.size()];
-            int ind = 0;
-            for(String na : names) {
-                args[ind] = input.get(na);
-                ind += 1;
-            }
-            return constructor.newInstance(args);
+            return instantiator.instantiate(args);
         } catch(Exception e) {
             throw new RuntimeException(
-                    "Object instantiation error, named constructor: '" + this + "', arguments: '" + input + "'", e);
+                    "Object instantiation error, named constructor: '" + this + "', arguments: '" + Arrays.toString(args) + "'", e);
         }
     }
 
+    private static Class<?>[] namedTypes(Class<?>[] params, int count) {
+        Class<?>[] res = new Class<?>[count];
+        System.arraycopy(params, params.length - count, res, 0, count);
+        return res;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -67,6 +113,7 @@ class NamedConstructor<T> {
         final StringBuilder sb = new StringBuilder();
         sb.append("NamedConstructor");
         sb.append("{constructor=").append(constructor);
+        sb.append(", instantiator=").append(instantiator.getClass().getSimpleName());
         sb.append(", names=").append(names);
         sb.append('}');
         return sb.toString();
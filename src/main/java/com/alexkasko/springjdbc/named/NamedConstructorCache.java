@@ -0,0 +1,149 @@
+package com.alexkasko.springjdbc.named;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.springframework.util.ClassUtils.isCacheSafe;
+
+/**
+ * Library-level cache of {@link NamedConstructorList} instances keyed by class. Lookups are lock-free.
+ * Classes are referenced weakly. Lists for classes loaded by this library class loader (or its parents)
+ * are cached strongly, lists for other classes (e.g. from webapp class loaders when library is deployed
+ * into shared class loader) are cached through soft references. Lists hold their classes strongly, so
+ * redeployed class loader is retained until soft references are cleared under memory pressure
+ * or until {@link #clear()} is called.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#forClass(Class)
+ */
+class NamedConstructorCache {
+    static final NamedConstructorCache INSTANCE = new NamedConstructorCache();
+
+    private final ConcurrentMap<Object, Object> map = new ConcurrentHashMap<Object, Object>();
+    private final ReferenceQueue<Class<?>> queue = new ReferenceQueue<Class<?>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * Returns cached constructors list for class, introspects class on cache miss
+     *
+     * @param clazz class to introspect and instantiate
+     * @param <T> class type
+     * @return named constructor function instance
+     */
+    @SuppressWarnings("unchecked")
+    <T> NamedConstructorList<T> forClass(Class<T> clazz) {
+        if(null == clazz) throw new IllegalArgumentException("Provided class is null");
+        Object val = map.get(new LookupKey(clazz));
+        NamedConstructorList<T> res = (NamedConstructorList<T>) (val instanceof Reference ? ((Reference) val).get() : val);
+        if(null != res) {
+            hits.incrementAndGet();
+            return res;
+        }
+        misses.incrementAndGet();
+        expungeStaleEntries();
+        res = NamedConstructorList.forClass(clazz);
+        put(clazz, res);
+        return res;
+    }
+
+    /**
+     * Puts already resolved constructors list into cache replacing existing entry
+     *
+     * @param clazz class
+     * @param list constructors list for class
+     * @param <T> class type
+     */
+    <T> void register(Class<T> clazz, NamedConstructorList<T> list) {
+        if(null == clazz) throw new IllegalArgumentException("Provided class is null");
+        if(null == list) throw new IllegalArgumentException("Provided list is null");
+        expungeStaleEntries();
+        put(clazz, list);
+    }
+
+    /**
+     * @return number of cache hits
+     */
+    long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of cache misses
+     */
+    long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * Removes all cached entries, counters are not reset
+     */
+    void clear() {
+        map.clear();
+    }
+
+    private <T> void put(Class<T> clazz, NamedConstructorList<T> list) {
+        Object cached = isCacheSafe(clazz, NamedConstructorCache.class.getClassLoader()) ? list :
+                new SoftReference<NamedConstructorList<T>>(list);
+        map.put(new ClassKey(clazz, queue), cached);
+    }
+
+    private void expungeStaleEntries() {
+        Reference<? extends Class<?>> ref;
+        while(null != (ref = queue.poll())) {
+            map.remove(ref);
+        }
+    }
+
+    /**
+     * Weak map key, equal to other keys with the same class
+     */
+    private static class ClassKey extends WeakReference<Class<?>> {
+        private final int hash;
+
+        private ClassKey(Class<?> clazz, ReferenceQueue<Class<?>> queue) {
+            super(clazz, queue);
+            this.hash = System.identityHashCode(clazz);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) return true;
+            if(!(o instanceof ClassKey)) return false;
+            Class<?> clazz = get();
+            return null != clazz && clazz == ((ClassKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Lookup-only map key, saves weak reference creation on cache hits
+     */
+    private static class LookupKey {
+        private final Class<?> clazz;
+
+        private LookupKey(Class<?> clazz) {
+            this.clazz = clazz;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ClassKey && clazz == ((ClassKey) o).get();
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(clazz);
+        }
+    }
+}
@@ -3,18 +3,22 @@ package com.alexkasko.springjdbc.named;
 import javax.inject.Named;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.*;
 
+import static org.springframework.jdbc.support.JdbcUtils.lookupColumnName;
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
 import static org.springframework.util.StringUtils.hasText;
 
 /**
- * List of named constructors for single class, converts unordered data map into object instance using {@link NamedConstructor}.
+ * List of named constructors for single class, chooses {@link NamedConstructor} for result set columns.
  * Designed to use with immutable classes (with final fields) - only constructor invocation is used without any field access.
  * Constructor arguments must be annotated with JSR330 {@link Named} annotations (there are other ways to access
  * constructor names in runtime, see <a href="http://paranamer.codehaus.org/">paranamer project</a>, but we use
  * {@code @Named} annotations only). Constructors without {@code @Named} annotations on arguments will be ignored.
  * Constructors with {@code @Named} annotations must have all they arguments annotated with not blank values without
- * duplicates. All reflection introspection is done on function instantiation. Input map keys may be in any case.
+ * duplicates. All reflection introspection is done on function instantiation. Column names may be in any case.
  *
  * @param <T> object type to instantiate
  * @author alexkasko
@@ -23,6 +27,10 @@ import static org.springframework.util.StringUtils.hasText;
  * @see NamedConstructorMapper
  */
 class NamedConstructorList<T> {
+    /**
+     * class to instantiate
+     */
+    final Class<T> clazz;
     /**
      * ordered by arguments count descending
      */
@@ -35,30 +43,183 @@ class NamedConstructorList<T> {
      */
     NamedConstructorList(Class<T> clazz) {
         if(null == clazz) throw new IllegalArgumentException("Provided class is null");
-        this.constructors = extractNamedConstructors(clazz);
+        this.clazz = clazz;
+        this.constructors = checkAndSort(clazz, extractNamedConstructors(clazz));
     }
 
     /**
-     * Generic-friendly factory method
+     * Constructor using compile-time generated metadata instead of reflection introspection
+     *
+     * @param generated generated metadata
+     */
+    NamedConstructorList(final GeneratedNamedConstructors<T> generated) {
+        String[][] names = generated.names();
+        Class<?>[][] types = generated.types();
+        List<NamedConstructor<T>> list = new ArrayList<NamedConstructor<T>>();
+        for(int i = 0; i < names.length; i++) {
+            final int index = i;
+            Instantiator<T> inst = new Instantiator<T>() {
+                @Override
+                public T instantiate(Object[] args) throws Exception {
+                    return generated.instantiate(index, args);
+                }
+            };
+            String desc = generated.targetClass().getName() + Arrays.toString(names[i]);
+            LinkedHashSet<String> na = new LinkedHashSet<String>(Arrays.asList(names[i]));
+            list.add(new NamedConstructor<T>(generated.targetClass(), desc, inst, na, types[i], types[i]));
+        }
+        this.clazz = generated.targetClass();
+        this.constructors = checkAndSort(generated.targetClass(), list);
+    }
+
+    /**
+     * Constructor using already resolved constructors (e.g. loaded from index)
+     *
+     * @param clazz class to instantiate
+     * @param constructors named constructors
+     */
+    NamedConstructorList(Class<T> clazz, List<NamedConstructor<T>> constructors) {
+        if(null == clazz) throw new IllegalArgumentException("Provided class is null");
+        this.clazz = clazz;
+        this.constructors = checkAndSort(clazz, new ArrayList<NamedConstructor<T>>(constructors));
+    }
+
+    /**
+     * Generic-friendly factory method, uses compile-time generated metadata if it exists for class
+     * (see {@link GeneratedNamedConstructors}), introspects class otherwise
      *
      * @param clazz class to introspect and instantiate
      * @param <T> class type
      * @return named constructor function instance
      */
     static <T> NamedConstructorList<T> forClass(Class<T> clazz) {
-        return new NamedConstructorList<T>(clazz);
+        if(null == clazz) throw new IllegalArgumentException("Provided class is null");
+        GeneratedNamedConstructors<T> generated = findGenerated(clazz);
+        return null != generated ? new NamedConstructorList<T>(generated) : new NamedConstructorList<T>(clazz);
+    }
+
+    /**
+     * Chooses constructor for result set columns and resolves column indices for its arguments.
+     * Columns names are compared with argument names in case-insensitive mode, if result set contains
+     * duplicate column names, last one wins. Column types are checked against constructor parameter
+     * types here, so type mismatches are reported once per result set.
+     *
+     * @param rsmd result set metadata
+     * @return mapping plan for result set
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException on column type not compatible with constructor parameter
+     */
+    NamedConstructorPlan<T> plan(ResultSetMetaData rsmd) throws SQLException {
+        return plan(rsmd, columns(rsmd));
+    }
+
+    /**
+     * Chooses constructor for result set columns and resolves column indices for its arguments.
+     * Names mapped to {@code 0} index are treated as arguments supplied by caller, they are not read
+     * from result set and must be set into row data before instantiation.
+     *
+     * @param rsmd result set metadata
+     * @param columns lower case column names to 1-based indices mapping
+     * @return mapping plan for result set
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException on column type not compatible with constructor parameter
+     */
+    NamedConstructorPlan<T> plan(ResultSetMetaData rsmd, Map<String, Integer> columns) throws SQLException {
+        return plan(rsmd, columns, ConverterRegistry.DEFAULTS);
+    }
+
+    /**
+     * Chooses constructor for result set columns, resolves column indices and value converters for its arguments.
+     * Converters are resolved for arguments whose column type is not compatible with parameter type
+     * and cannot be read by typed reader without loss, arguments without converters are checked by their readers.
+     *
+     * @param rsmd result set metadata
+     * @param columns lower case column names to 1-based indices mapping
+     * @param converters converters registry
+     * @return mapping plan for result set
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException on column type not compatible with constructor parameter
+     */
+    NamedConstructorPlan<T> plan(ResultSetMetaData rsmd, Map<String, Integer> columns, ConverterRegistry converters)
+            throws SQLException {
+        NamedConstructor<T> nc = findConstructor(columns.keySet());
+        int[] indices = new int[nc.names.size()];
+        ValueConverter[] convs = null;
+        ColumnReader[] readers = nc.readers;
+        int ind = 0;
+        for(String na : nc.names) {
+            indices[ind] = columns.get(na);
+            if(indices[ind] > 0) {
+                ValueConverter conv = findConverter(rsmd, indices[ind], nc.readers[ind], nc.types[ind], converters);
+                if(null != conv) {
+                    if(null == convs) convs = new ValueConverter[indices.length];
+                    convs[ind] = conv;
+                    // converted values are read with getObject
+                    if(ColumnReader.OBJECT != readers[ind]) {
+                        if(readers == nc.readers) readers = nc.readers.clone();
+                        readers[ind] = ColumnReader.OBJECT;
+                    }
+                } else {
+                    nc.readers[ind].check(rsmd, indices[ind], nc.types[ind], na);
+                }
+            }
+            ind += 1;
+        }
+        return new NamedConstructorPlan<T>(nc, indices, convs, readers);
     }
 
     /**
-     * Converts unordered data map into object instance using constructor {@link Named} annotated arguments.
+     * Checks arguments of constructor that will be chosen for result set columns
      *
-     * @param input unordered data map
-     * @return instantiated object
+     * @param names lower case column names
+     * @return whether chosen constructor reads streams or LOB handles, false if no constructor fits columns
      */
-    public T invoke(Map<String, ?> input) {
-        if(null == input) throw new IllegalArgumentException("Input data map is null");
-        NamedConstructor<T> nc = findConstructor(input.keySet());
-        return nc.invoke(input);
+    boolean isStreaming(Set<String> names) {
+        for(NamedConstructor<T> nc : constructors) {
+            if(names.size() >= nc.names.size() && names.containsAll(nc.names)) {
+                for(ColumnReader re : nc.readers) {
+                    if(re.isStreaming()) return true;
+                }
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return named constructors ordered by arguments count descending
+     */
+    List<NamedConstructor<T>> constructors() {
+        return Collections.unmodifiableList(constructors);
+    }
+
+    /**
+     * Collects argument names of all constructors, arguments of constructors with more arguments go first
+     *
+     * @return lower case argument names
+     */
+    LinkedHashSet<String> names() {
+        LinkedHashSet<String> res = new LinkedHashSet<String>();
+        for(NamedConstructor<T> nc : constructors) {
+            res.addAll(nc.names);
+        }
+        return res;
+    }
+
+    /**
+     * Collects result set column names in lower case, if result set contains duplicate column names, last one wins.
+     *
+     * @param rsmd result set metadata
+     * @return lower case column names to 1-based indices mapping
+     * @throws SQLException on metadata access error
+     */
+    static Map<String, Integer> columns(ResultSetMetaData rsmd) throws SQLException {
+        int count = rsmd.getColumnCount();
+        Map<String, Integer> columns = new HashMap<String, Integer>(count);
+        for(int i = 1; i <= count; i++) {
+            columns.put(lookupColumnName(rsmd, i).toLowerCase(Locale.ENGLISH), i);
+        }
+        return columns;
     }
 
     /**
@@ -73,6 +234,15 @@ class NamedConstructorList<T> {
         return sb.toString();
     }
 
+    private static ValueConverter findConverter(ResultSetMetaData rsmd, int index, ColumnReader reader, Class<?> type,
+                                                ConverterRegistry converters) throws SQLException {
+        Class<?> colType = ColumnReader.columnType(rsmd, index);
+        if(null == colType || resolvePrimitiveIfNecessary(type).isAssignableFrom(colType)) return null;
+        // typed getters read such columns without loss
+        if(reader.accepts(colType)) return null;
+        return converters.find(colType, type);
+    }
+
     private NamedConstructor<T> findConstructor(Set<String> names) {
         for(NamedConstructor<T> nc : constructors) {
             if(names.size() >= nc.names.size() && names.containsAll(nc.names)) return nc;
@@ -87,6 +257,10 @@ class NamedConstructorList<T> {
             LinkedHashSet<String> names = extractNames(anArray, co.toGenericString());
             if(names.size() > 0) list.add(new NamedConstructor<T>(co, names));
         }
+        return list;
+    }
+
+    private List<NamedConstructor<T>> checkAndSort(Class<T> clazz, List<NamedConstructor<T>> list) {
         if(0 == list.size()) throw new IllegalArgumentException("No named constructors found for class: '" + clazz + "'");
         // check duplicate name sets
         for(NamedConstructor<T> nc1 : list) {
@@ -102,6 +276,23 @@ class NamedConstructorList<T> {
         return list;
     }
 
+    @SuppressWarnings("unchecked")
+    private static <T> GeneratedNamedConstructors<T> findGenerated(Class<T> clazz) {
+        ClassLoader cl = null != clazz.getClassLoader() ? clazz.getClassLoader() : ClassLoader.getSystemClassLoader();
+        try {
+            Class<?> gen = Class.forName(clazz.getName() + GeneratedNamedConstructors.SUFFIX, true, cl);
+            if(!GeneratedNamedConstructors.class.isAssignableFrom(gen)) return null;
+            GeneratedNamedConstructors<T> res = (GeneratedNamedConstructors<T>) gen.newInstance();
+            return clazz == res.targetClass() ? res : null;
+        } catch(ClassNotFoundException e) {
+            return null;
+        } catch(InstantiationException e) {
+            throw new IllegalArgumentException("Cannot instantiate generated metadata for class: '" + clazz + "'", e);
+        } catch(IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot instantiate generated metadata for class: '" + clazz + "'", e);
+        }
+    }
+
     private LinkedHashSet<String> extractNames(Annotation[][] anArray, String coStr) {
         LinkedHashSet<String> res = new LinkedHashSet<String>();
         for(Annotation[] anns : anArray) {
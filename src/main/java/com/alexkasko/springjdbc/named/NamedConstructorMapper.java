@@ -1,8 +1,17 @@
 package com.alexkasko.springjdbc.named;
 
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.lob.LobHandler;
 
-import java.util.HashMap;
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+
+import static org.springframework.util.StringUtils.hasText;
 
 /**
  * Spring's <a href="http://static.springsource.org/spring/docs/3.0.x/javadoc-api/org/springframework/jdbc/core/RowMapper.html">RowMapper</a>
@@ -13,7 +22,8 @@ import java.util.HashMap;
  * <a href="http://paranamer.codehaus.org/">paranamer project</a>, but we use {@code @Named} annotations only).
  * Constructors without {@code @Named} annotations on arguments will be ignored.
  * Constructors with {@code @Named} annotations must have all they arguments annotated with not blank values without duplicates.
- * All reflection introspection is done on mapper instantiation. {@code @Named} values used in case-insensitive mode
+ * All reflection introspection is done on first mapper instantiation for each class, introspection results are cached
+ * in library-level cache, so mappers may be created on each query. {@code @Named} values used in case-insensitive mode
  * (databases usually use column names so) so all {@code @Named} values and all result set column names must be locale insensitive.
  * Supports class hierarchies - different subclasses instantiation from single result set based on, use {@link #builder(String)}
  * method to create subclasses mapper and see {@link NamedConstructorSubclassesMapper} for details.
@@ -47,10 +57,38 @@ public abstract class NamedConstructorMapper<T> implements RowMapper<T> {
      * @return named constructor instance
      */
     public static <T> NamedConstructorMapper<T> forClass(Class<T> clazz) {
-        NamedConstructorList<T> fun = NamedConstructorList.forClass(clazz);
+        NamedConstructorList<T> fun = NamedConstructorCache.INSTANCE.forClass(clazz);
         return new NamedConstructorSingleMapper<T>(fun);
     }
 
+    /**
+     * Returns number of introspection cache hits for {@link #forClass(Class)} and
+     * {@link Builder#addSubclass(String, Class)} calls
+     *
+     * @return number of cache hits
+     */
+    public static long cacheHitCount() {
+        return NamedConstructorCache.INSTANCE.hitCount();
+    }
+
+    /**
+     * Returns number of introspection cache misses for {@link #forClass(Class)} and
+     * {@link Builder#addSubclass(String, Class)} calls
+     *
+     * @return number of cache misses
+     */
+    public static long cacheMissCount() {
+        return NamedConstructorCache.INSTANCE.missCount();
+    }
+
+    /**
+     * Removes all introspection results from cache, may be called on webapp undeploy
+     * to release references to its classes held by cache
+     */
+    public static void clearCache() {
+        NamedConstructorCache.INSTANCE.clear();
+    }
+
     /**
      * Builder to create subclasses mapper
      *
@@ -62,6 +100,337 @@ public abstract class NamedConstructorMapper<T> implements RowMapper<T> {
         return new Builder<T>(discColumn);
     }
 
+    /**
+     * Returns argument names of constructors this mapper may choose from, constructors with more
+     * arguments go first, for subclasses mapper constructors of all subclasses are returned
+     * in subclasses registration order. Default implementation throws {@code UnsupportedOperationException},
+     * it is overridden by library mappers
+     *
+     * @return lower case argument names for each constructor
+     */
+    public List<List<String>> argumentNames() {
+        throw new UnsupportedOperationException("Argument names are not supported by mapper: '" + getClass().getName() + "'");
+    }
+
+    /**
+     * Returns minimal set of columns needed to map rows with constructors having most arguments,
+     * for subclasses mapper it includes discriminator column and columns of all subclasses.
+     * Default implementation throws {@code UnsupportedOperationException}, it is overridden by library mappers,
+     * {@code selectList} methods depend on it
+     *
+     * @return lower case column names
+     */
+    public Set<String> columnNames() {
+        throw new UnsupportedOperationException("Column names are not supported by mapper: '" + getClass().getName() + "'");
+    }
+
+    /**
+     * Generates SELECT column list from {@link #columnNames()} to use instead of {@code select *}
+     *
+     * @return comma-separated column list
+     */
+    public String selectList() {
+        return selectList(columnNames(), "", "");
+    }
+
+    /**
+     * Generates SELECT column list from {@link #columnNames()} qualified with table alias
+     *
+     * @param alias table alias, may be empty
+     * @return comma-separated column list
+     */
+    public String selectList(String alias) {
+        return selectList(columnNames(), alias, "");
+    }
+
+    /**
+     * Generates SELECT column list from {@link #columnNames()} qualified with table alias and
+     * aliased with prefix (e.g. {@code o.id as order_id}), useful for joins
+     *
+     * @param alias table alias, may be empty
+     * @param prefix column alias prefix, may be empty
+     * @return comma-separated column list
+     */
+    public String selectList(String alias, String prefix) {
+        return selectList(columnNames(), alias, prefix);
+    }
+
+    /**
+     * Generates SELECT column list for provided columns (e.g. arguments of selected constructor
+     * from {@link #argumentNames()}) qualified with table alias and aliased with prefix
+     *
+     * @param columns column names
+     * @param alias table alias, may be empty
+     * @param prefix column alias prefix, may be empty
+     * @return comma-separated column list
+     */
+    public static String selectList(Collection<String> columns, String alias, String prefix) {
+        if(null == columns) throw new IllegalArgumentException("Provided columns are null");
+        if(columns.isEmpty()) throw new IllegalArgumentException("Provided columns are empty");
+        if(null == alias) throw new IllegalArgumentException("Provided alias is null");
+        if(null == prefix) throw new IllegalArgumentException("Provided prefix is null");
+        StringBuilder sb = new StringBuilder();
+        for(String co : columns) {
+            if(!hasText(co)) throw new IllegalArgumentException("Provided columns contain blank value");
+            if(sb.length() > 0) sb.append(", ");
+            if(alias.length() > 0) sb.append(alias).append('.');
+            sb.append(co);
+            if(prefix.length() > 0) sb.append(" as ").append(prefix).append(co);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Executes query and returns iterator mapping result rows lazily with this mapper,
+     * see {@link ResultSetIterator} for resources handling details
+     *
+     * @param ds data source
+     * @param sql query SQL
+     * @param args query arguments
+     * @return iterator over mapped rows
+     */
+    public ResultSetIterator<T> iterator(DataSource ds, String sql, Object... args) {
+        return new ResultSetIterator<T>(ds, this, 0, sql, args);
+    }
+
+    /**
+     * Executes query and returns iterator mapping result rows lazily with this mapper,
+     * see {@link ResultSetIterator} for resources handling details
+     *
+     * @param ds data source
+     * @param fetchSize fetch size hint for driver
+     * @param sql query SQL
+     * @param args query arguments
+     * @return iterator over mapped rows
+     */
+    public ResultSetIterator<T> iterator(DataSource ds, int fetchSize, String sql, Object... args) {
+        return new ResultSetIterator<T>(ds, this, fetchSize, sql, args);
+    }
+
+    /**
+     * Creates copy of this mapper reporting mapped rows, sampled mapping latencies and mapping errors
+     * to provided listener, see {@link MapperMetrics} for metrics collecting listener
+     *
+     * @param listener mapping events listener
+     * @return instrumented mapper
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withListener(MapperListener listener) {
+        return withOptions(options().withListener(listener));
+    }
+
+    /**
+     * Creates copy of this mapper that replaces values of provided columns with equal values
+     * already read by this mapper (e.g. repeated status codes or country names), so mapped objects share
+     * single value instance. Values are kept in bounded lossy concurrent table with
+     * {@code 4096} slots, so retained memory is bounded and rare values may be not canonicalized.
+     *
+     * @param columns columns to canonicalize values of
+     * @return mapper with canonicalization
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withCanonicalColumns(String... columns) {
+        return withCanonicalColumns(MapperOptions.DEFAULT_TABLE_SIZE, columns);
+    }
+
+    /**
+     * Creates copy of this mapper that replaces values of provided columns with equal values
+     * already read by this mapper, see {@link #withCanonicalColumns(String...)}
+     *
+     * @param tableSize canonicalization table slots count
+     * @param columns columns to canonicalize values of
+     * @return mapper with canonicalization
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withCanonicalColumns(int tableSize, String... columns) {
+        return withOptions(options().withCanonicalColumns(tableSize, columns));
+    }
+
+    /**
+     * Creates copy of this mapper that reuses objects already created by this mapper within single result set
+     * for rows with the same key column value (e.g. repeated rows of joins). Reused object is returned
+     * without reading other columns, so this mode must be used only for data where key determines all row values.
+     * Objects are kept in bounded lossy table with {@code 4096} slots created for each result set.
+     *
+     * @param keyColumn key column
+     * @return mapper with instances reuse
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withInstanceReuse(String keyColumn) {
+        return withInstanceReuse(keyColumn, MapperOptions.DEFAULT_TABLE_SIZE);
+    }
+
+    /**
+     * Creates copy of this mapper that reuses objects already created by this mapper within single result set
+     * for rows with the same key column value, see {@link #withInstanceReuse(String)}
+     *
+     * @param keyColumn key column
+     * @param tableSize instances table slots count for each result set
+     * @return mapper with instances reuse
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withInstanceReuse(String keyColumn, int tableSize) {
+        return withOptions(options().withInstanceReuse(keyColumn, tableSize, false));
+    }
+
+    /**
+     * Creates copy of this mapper that reuses objects already created by this mapper for rows with the same
+     * key column value, see {@link #withInstanceReuse(String)}. With {@code acrossQueries} enabled objects are kept
+     * in tables created for each constructor that live as long as the returned mapper, so objects created by
+     * previous queries are returned even if rows were changed in database since then. Such mode must be used only
+     * for immutable reference data, or tables must be cleared with {@link #clearReusedInstances()} on data changes.
+     *
+     * @param keyColumn key column
+     * @param tableSize instances table slots count for each result set or for each constructor
+     * @param acrossQueries whether to reuse objects created by previous queries
+     * @return mapper with instances reuse
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withInstanceReuse(String keyColumn, int tableSize, boolean acrossQueries) {
+        return withOptions(options().withInstanceReuse(keyColumn, tableSize, acrossQueries));
+    }
+
+    /**
+     * Removes objects kept for reuse across queries by this mapper,
+     * see {@link #withInstanceReuse(String, int, boolean)}, does nothing for other mappers
+     */
+    public void clearReusedInstances() {
+        options().clearReuseTables();
+    }
+
+    /**
+     * Creates copy of this mapper that reads {@code InputStream}, {@code Reader} and {@link LobHandle}
+     * constructor arguments using provided LOB handler ({@code DefaultLobHandler} is used by default)
+     *
+     * @param lobHandler LOB handler
+     * @return mapper with provided LOB handler
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withLobHandler(LobHandler lobHandler) {
+        return withOptions(options().withLobHandler(lobHandler));
+    }
+
+    /**
+     * Creates copy of this mapper that converts column values not compatible with constructor parameter types
+     * using provided registry (registry with default converters is used by default), see {@link ConverterRegistry}
+     *
+     * @param converters value converters registry
+     * @return mapper with provided converters
+     * @throws UnsupportedOperationException if this mapper is a custom subclass not created
+     *         with {@link #forClass(Class)} or {@link #builder(String)}
+     */
+    public NamedConstructorMapper<T> withConverters(ConverterRegistry converters) {
+        return withOptions(options().withConverters(converters));
+    }
+
+    /**
+     * Creates mapping plan for result set, plan is not cached in mapper.
+     * Default implementation delegates to {@link #mapRow(java.sql.ResultSet, int)}, it is overridden
+     * by library mappers
+     *
+     * @param rs result set
+     * @return plan for provided result set
+     * @throws SQLException on metadata access error
+     */
+    RowPlan<T> plan(ResultSet rs) throws SQLException {
+        return new RowMapperPlan<T>(this);
+    }
+
+    /**
+     * Creates mapping plan for result set, that doesn't read stream and {@link LobHandle} arguments,
+     * used where mapped objects outlive current row
+     *
+     * @param rs result set
+     * @return plan for provided result set
+     * @throws SQLException on metadata access error
+     * @throws IllegalArgumentException if plan reads streams or LOB handles
+     */
+    RowPlan<T> detachedPlan(ResultSet rs) throws SQLException {
+        RowPlan<T> plan = plan(rs);
+        if(plan.isStreaming()) throw new IllegalArgumentException(
+                "Stream and LOB handle arguments are not supported for objects used after row is read," +
+                " mapper: '" + getClass().getName() + "', columns: '" + NamedConstructorList.columns(rs.getMetaData()).keySet() + "'");
+        return plan;
+    }
+
+    /**
+     * Default implementation returns default settings, it is overridden by library mappers
+     *
+     * @return optional settings of this mapper
+     */
+    MapperOptions options() {
+        return MapperOptions.DEFAULT;
+    }
+
+    /**
+     * Creates copy of this mapper with provided settings, default implementation
+     * throws {@code UnsupportedOperationException}, it is overridden by library mappers
+     *
+     * @param options optional settings
+     * @return mapper copy
+     */
+    NamedConstructorMapper<T> withOptions(MapperOptions options) {
+        throw new UnsupportedOperationException("Optional settings are not supported by mapper: '" + getClass().getName() + "'");
+    }
+
+    /**
+     * Plan for mappers that don't override {@link #plan(java.sql.ResultSet)}, objects are instantiated
+     * with {@link #mapRow(java.sql.ResultSet, int)} on read, arguments access is not supported
+     */
+    private static class RowMapperPlan<T> implements RowPlan<T> {
+        private final NamedConstructorMapper<T> mapper;
+
+        private RowMapperPlan(NamedConstructorMapper<T> mapper) {
+            this.mapper = mapper;
+        }
+
+        @Override
+        public T invoke(ResultSet rs) throws SQLException {
+            return mapper.mapRow(rs, rs.getRow());
+        }
+
+        @Override
+        public RowData<T> read(ResultSet rs) throws SQLException {
+            return new MappedRowData<T>(mapper.mapRow(rs, rs.getRow()));
+        }
+
+        @Override
+        public NamedConstructorPlan<? extends T> resolve(ResultSet rs) {
+            throw new UnsupportedOperationException("Arguments access is not supported by mapper: '" +
+                    mapper.getClass().getName() + "'");
+        }
+
+        @Override
+        public boolean isStreaming() {
+            // arguments read by mapRow are unknown
+            return false;
+        }
+    }
+
+    /**
+     * Row data holding already instantiated object
+     */
+    private static class MappedRowData<T> extends RowData<T> {
+        private final T obj;
+
+        private MappedRowData(T obj) {
+            super(null, null);
+            this.obj = obj;
+        }
+
+        @Override
+        T invoke() {
+            return obj;
+        }
+    }
+
     /**
      * Builder class to create subclasses named constructor mapper
      *
@@ -69,7 +438,7 @@ public abstract class NamedConstructorMapper<T> implements RowMapper<T> {
      */
     public static class Builder<T> {
         private final String discColumn;
-        private final HashMap<String, NamedConstructorList<? extends T>> map = new HashMap<String, NamedConstructorList<? extends T>>();
+        private final LinkedHashMap<Object, NamedConstructorList<? extends T>> map = new LinkedHashMap<Object, NamedConstructorList<? extends T>>();
 
         /**
          * Constructor
@@ -88,7 +457,20 @@ public abstract class NamedConstructorMapper<T> implements RowMapper<T> {
          * @return builder itself
          */
         public Builder<T> addSubclass(String discriminator, Class<? extends T> subclass) {
-            map.put(discriminator, NamedConstructorList.forClass(subclass));
+            return addSubclass((Object) discriminator, subclass);
+        }
+
+        /**
+         * Registers subclass in mapper with non-string discriminator, integral numbers are compared
+         * with column values by {@code long} value, enums are compared by name with string column values
+         *
+         * @param discriminator discriminator column value
+         * @param subclass subclass type
+         * @return builder itself
+         */
+        public Builder<T> addSubclass(Object discriminator, Class<? extends T> subclass) {
+            if(null == discriminator) throw new IllegalArgumentException("Provided discriminator is null");
+            map.put(NamedConstructorSubclassesMapper.discKey(discriminator), NamedConstructorCache.INSTANCE.forClass(subclass));
             return this;
         }
 
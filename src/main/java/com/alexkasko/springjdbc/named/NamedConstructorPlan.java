@@ -0,0 +1,226 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.support.lob.LobHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.springframework.util.ClassUtils.resolvePrimitiveIfNecessary;
+
+/**
+ * Mapping plan for single result set: chosen named constructor and result set column indices
+ * for each of its arguments. Created once on the first row of result set from its metadata,
+ * after that rows are read by index straight into the arguments array using typed column readers
+ * chosen for constructor parameters.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorList#plan(java.sql.ResultSetMetaData)
+ */
+class NamedConstructorPlan<T> implements RowPlan<T> {
+    /**
+     * chosen constructor
+     */
+    final NamedConstructor<T> constructor;
+    /**
+     * 1-based column indices in constructor arguments order, {@code 0} for arguments supplied by caller
+     */
+    final int[] indices;
+    /**
+     * value converters in constructor arguments order, null if no arguments need conversion
+     */
+    final ValueConverter[] converters;
+    /**
+     * lower case argument names in constructor arguments order
+     */
+    final String[] names;
+    /**
+     * column readers in constructor arguments order, {@code OBJECT} reader is used for converted arguments
+     */
+    final ColumnReader[] readers;
+    private final Class<?>[] targetTypes;
+    private final LobHandler lobHandler;
+    private Object[] buffer;
+
+    /**
+     * Constructor
+     *
+     * @param constructor chosen constructor
+     * @param indices 1-based column indices in constructor arguments order
+     * @param converters value converters in constructor arguments order, may be null
+     * @param readers column readers in constructor arguments order
+     */
+    NamedConstructorPlan(NamedConstructor<T> constructor, int[] indices, ValueConverter[] converters,
+                         ColumnReader[] readers) {
+        this(constructor, indices, converters, readers, ColumnReader.DEFAULT_LOB_HANDLER);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param constructor chosen constructor
+     * @param indices 1-based column indices in constructor arguments order
+     * @param converters value converters in constructor arguments order, may be null
+     * @param readers column readers in constructor arguments order
+     * @param lobHandler handler for LOB arguments
+     */
+    private NamedConstructorPlan(NamedConstructor<T> constructor, int[] indices, ValueConverter[] converters,
+                                 ColumnReader[] readers, LobHandler lobHandler) {
+        this.constructor = constructor;
+        this.indices = indices;
+        this.converters = converters;
+        this.names = constructor.names.toArray(new String[indices.length]);
+        this.readers = readers;
+        this.targetTypes = new Class<?>[constructor.types.length];
+        for(int i = 0; i < targetTypes.length; i++) {
+            targetTypes[i] = resolvePrimitiveIfNecessary(constructor.types[i]);
+        }
+        this.lobHandler = lobHandler;
+    }
+
+    /**
+     * @param lobHandler handler for LOB arguments
+     * @return copy of this plan using provided LOB handler
+     */
+    NamedConstructorPlan<T> withLobHandler(LobHandler lobHandler) {
+        return new NamedConstructorPlan<T>(constructor, indices, converters, readers, lobHandler);
+    }
+
+    /**
+     * Converts arguments with resolved converters in place
+     *
+     * @param args arguments in constructor parameters order
+     * @throws IllegalArgumentException on conversion error
+     */
+    void convert(Object[] args) {
+        if(null == converters) return;
+        for(int i = 0; i < converters.length; i++) {
+            args[i] = convert(i, args[i]);
+        }
+    }
+
+    private Object convert(int index, Object value) {
+        if(null == converters || null == converters[index] || null == value) return value;
+        try {
+            return converters[index].convert(value, targetTypes[index]);
+        } catch(RuntimeException e) {
+            throw new IllegalArgumentException("Conversion error, value: '" + value + "', " +
+                    "type: '" + targetTypes[index].getName() + "', constructor: '" + constructor + "'", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isStreaming() {
+        for(int i = 0; i < indices.length; i++) {
+            if(indices[i] > 0 && readers[i].isStreaming()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T invoke(ResultSet rs) throws SQLException {
+        Object[] args = buffer();
+        try {
+            return constructor.invoke(readArgs(rs, args));
+        } finally {
+            clear(args);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RowData<T> read(ResultSet rs) throws SQLException {
+        return new RowData<T>(constructor, readArgs(rs));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public NamedConstructorPlan<T> resolve(ResultSet rs) {
+        return this;
+    }
+
+    /**
+     * Reads constructor arguments from current row
+     *
+     * @param rs result set this plan was created for
+     * @return arguments in constructor parameters order
+     * @throws SQLException on column value access error
+     */
+    Object[] readArgs(ResultSet rs) throws SQLException {
+        return readArgs(rs, new Object[indices.length]);
+    }
+
+    /**
+     * Reads constructor arguments from current row into provided array
+     *
+     * @param rs result set this plan was created for
+     * @param args array to read arguments into, its length must be equal to arguments count
+     * @return provided array
+     * @throws SQLException on column value access error
+     */
+    Object[] readArgs(ResultSet rs, Object[] args) throws SQLException {
+        for(int i = 0; i < indices.length; i++) {
+            if(indices[i] > 0) args[i] = readers[i].read(rs, indices[i], lobHandler);
+        }
+        convert(args);
+        return args;
+    }
+
+    /**
+     * Reads single constructor argument from current row
+     *
+     * @param rs result set this plan was created for
+     * @param index argument index
+     * @return argument value, converted if plan has converter for it
+     * @throws SQLException on column value access error
+     */
+    Object readArg(ResultSet rs, int index) throws SQLException {
+        return convert(index, readers[index].read(rs, indices[index], lobHandler));
+    }
+
+    /**
+     * Arguments buffer reused by this plan for rows whose arguments don't escape instantiation,
+     * plans are used by single thread, so buffer is not shared between threads
+     *
+     * @return arguments buffer
+     */
+    Object[] buffer() {
+        if(null == buffer) buffer = new Object[indices.length];
+        return buffer;
+    }
+
+    /**
+     * Clears arguments buffer after invocation, so plan cached in mapper doesn't retain
+     * last row values (large strings, byte arrays, streams referencing result set)
+     *
+     * @param args arguments buffer
+     */
+    static void clear(Object[] args) {
+        Arrays.fill(args, null);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("NamedConstructorPlan");
+        sb.append("{constructor=").append(constructor);
+        sb.append(", indices=").append(Arrays.toString(indices));
+        sb.append('}');
+        return sb.toString();
+    }
+}
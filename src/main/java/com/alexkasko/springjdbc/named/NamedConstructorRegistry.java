@@ -0,0 +1,319 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.type.ClassMetadata;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.core.type.classreading.SimpleMetadataReaderFactory;
+import org.springframework.util.ClassUtils;
+
+import javax.inject.Named;
+import java.io.*;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.CRC32;
+
+import static org.springframework.util.StringUtils.collectionToCommaDelimitedString;
+import static org.springframework.util.StringUtils.commaDelimitedListToStringArray;
+
+/**
+ * Eager registration of named constructors into library-level introspection cache, so mappers setup
+ * is moved from the first queries to application startup. Classes may be registered explicitly or
+ * found by scanning packages, introspection runs in parallel. Resolved constructors may be written
+ * into index file at build time (see {@link #main(String[])}), index loading on startup doesn't
+ * scan packages and annotations.
+ * Index is a UTF-8 text file with fingerprint line for each class (CRC32 of class file) followed by
+ * a line for each named constructor:
+ *
+ * <pre>
+ * com.example.Foo#3f2a9c01
+ * com.example.Foo(long,java.lang.String)=id,name
+ * </pre>
+ *
+ * Fingerprints are checked on loading, so index is rejected if class was changed after index was written
+ * (e.g. renamed {@code @Named} value, swapped arguments or added constructor).
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#forClass(Class)
+ */
+public class NamedConstructorRegistry {
+    /**
+     * Default index location in classpath
+     */
+    public static final String DEFAULT_INDEX_LOCATION = "META-INF/springjdbc-named-constructors.idx";
+    private static final String ENCODING = "UTF-8";
+    private static final Map<String, Class<?>> PRIMITIVES = new HashMap<String, Class<?>>();
+
+    static {
+        for(Class<?> cl : new Class<?>[]{int.class, long.class, short.class, byte.class, double.class, float.class,
+                boolean.class, char.class}) {
+            PRIMITIVES.put(cl.getName(), cl);
+        }
+    }
+
+    private NamedConstructorRegistry() {
+    }
+
+    /**
+     * Finds classes having constructors with {@code @Named} arguments in provided packages and their
+     * subpackages, interfaces, abstract classes and non-static inner classes are skipped.
+     * Classes are loaded without initialization.
+     *
+     * @param classLoader class loader to scan
+     * @param packages packages names
+     * @return found classes
+     * @throws IOException on classpath resources access error
+     */
+    public static List<Class<?>> scanPackages(ClassLoader classLoader, String... packages) throws IOException {
+        if(null == packages || 0 == packages.length) throw new IllegalArgumentException("Provided packages are empty");
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        MetadataReaderFactory readerFactory = new SimpleMetadataReaderFactory(resolver);
+        Set<String> names = new TreeSet<String>();
+        for(String pa : packages) {
+            String pattern = "classpath*:" + ClassUtils.convertClassNameToResourcePath(pa) + "/**/*.class";
+            for(Resource re : resolver.getResources(pattern)) {
+                ClassMetadata meta = readerFactory.getMetadataReader(re).getClassMetadata();
+                if(meta.isConcrete() && meta.isIndependent()) names.add(meta.getClassName());
+            }
+        }
+        List<Class<?>> res = new ArrayList<Class<?>>();
+        for(String na : names) {
+            Class<?> clazz;
+            try {
+                clazz = resolver.getClassLoader().loadClass(na);
+            } catch(ClassNotFoundException e) {
+                throw new IOException("Cannot load scanned class: '" + na + "'");
+            }
+            if(hasNamedConstructors(clazz)) res.add(clazz);
+        }
+        return res;
+    }
+
+    /**
+     * Introspects provided classes in parallel in executor and puts results into library-level cache,
+     * blocks until all classes are introspected
+     *
+     * @param classes classes to register
+     * @param executor executor to introspect classes in
+     * @throws IllegalArgumentException on introspection error for any class
+     */
+    public static void register(Collection<? extends Class<?>> classes, Executor executor) {
+        if(null == classes) throw new IllegalArgumentException("Provided classes are null");
+        if(null == executor) throw new IllegalArgumentException("Provided executor is null");
+        CompletionService<Class<?>> cs = new ExecutorCompletionService<Class<?>>(executor);
+        for(final Class<?> clazz : classes) {
+            cs.submit(new Callable<Class<?>>() {
+                @Override
+                public Class<?> call() throws Exception {
+                    NamedConstructorCache.INSTANCE.forClass(clazz);
+                    return clazz;
+                }
+            });
+        }
+        Throwable error = null;
+        for(int i = 0; i < classes.size(); i++) {
+            try {
+                cs.take().get();
+            } catch(InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Registration interrupted", e);
+            } catch(ExecutionException e) {
+                if(null == error) error = e.getCause();
+            }
+        }
+        if(null != error) throw new IllegalArgumentException("Named constructors registration error", error);
+    }
+
+    /**
+     * Introspects provided classes in parallel using temporary thread pool with available processors
+     * count threads and puts results into library-level cache
+     *
+     * @param classes classes to register
+     * @throws IllegalArgumentException on introspection error for any class
+     */
+    public static void register(Collection<? extends Class<?>> classes) {
+        ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+        try {
+            register(classes, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Writes named constructors of provided classes into index
+     *
+     * @param classes classes to write
+     * @param writer index writer, not closed by this method
+     * @throws IOException on write error
+     */
+    public static void writeIndex(Collection<? extends Class<?>> classes, Writer writer) throws IOException {
+        for(Class<?> clazz : classes) {
+            String fingerprint = fingerprint(clazz);
+            if(null != fingerprint) writer.write(clazz.getName() + "#" + fingerprint + "\n");
+            for(NamedConstructor<?> nc : NamedConstructorCache.INSTANCE.forClass(clazz).constructors()) {
+                List<String> types = new ArrayList<String>();
+                for(Class<?> pt : nc.parameterTypes) {
+                    types.add(pt.getName());
+                }
+                writer.write(clazz.getName() + "(" + collectionToCommaDelimitedString(types) + ")=" +
+                        collectionToCommaDelimitedString(nc.names) + "\n");
+            }
+        }
+        writer.flush();
+    }
+
+    /**
+     * Loads named constructors from index and puts them into library-level cache without annotations introspection
+     *
+     * @param reader index reader, not closed by this method
+     * @param classLoader class loader to load indexed classes with
+     * @return number of loaded classes
+     * @throws IOException on read error
+     * @throws IllegalArgumentException on invalid index line, on indexed class or constructor not found
+     *         or on class fingerprint mismatch
+     */
+    public static int loadIndex(Reader reader, ClassLoader classLoader) throws IOException {
+        Map<Class<?>, List<NamedConstructor<?>>> map = new LinkedHashMap<Class<?>, List<NamedConstructor<?>>>();
+        BufferedReader br = new BufferedReader(reader);
+        String line;
+        while(null != (line = br.readLine())) {
+            line = line.trim();
+            if(0 == line.length() || line.startsWith("#")) continue;
+            int hash = line.indexOf('#');
+            if(hash > 0) {
+                Class<?> clazz = loadClass(line.substring(0, hash), classLoader);
+                if(!line.substring(hash + 1).equals(fingerprint(clazz))) throw new IllegalArgumentException(
+                        "Indexed class was changed after index was written, index line: '" + line + "'");
+                continue;
+            }
+            int open = line.indexOf('(');
+            int close = line.indexOf(")=");
+            if(open <= 0 || close < open) throw new IllegalArgumentException("Invalid index line: '" + line + "'");
+            Class<?> clazz = loadClass(line.substring(0, open), classLoader);
+            String[] typeNames = commaDelimitedListToStringArray(line.substring(open + 1, close));
+            Class<?>[] types = new Class<?>[typeNames.length];
+            for(int i = 0; i < typeNames.length; i++) {
+                types[i] = loadClass(typeNames[i], classLoader);
+            }
+            Constructor<?> co;
+            try {
+                co = clazz.getDeclaredConstructor(types);
+            } catch(NoSuchMethodException e) {
+                throw new IllegalArgumentException("Indexed constructor not found, index line: '" + line + "'");
+            }
+            LinkedHashSet<String> names = new LinkedHashSet<String>(Arrays.asList(
+                    commaDelimitedListToStringArray(line.substring(close + 2))));
+            List<NamedConstructor<?>> list = map.get(clazz);
+            if(null == list) {
+                list = new ArrayList<NamedConstructor<?>>();
+                map.put(clazz, list);
+            }
+            list.add(new NamedConstructor<Object>(co, names));
+        }
+        for(Map.Entry<Class<?>, List<NamedConstructor<?>>> en : map.entrySet()) {
+            register(en.getKey(), en.getValue());
+        }
+        return map.size();
+    }
+
+    /**
+     * Loads all indexes found in classpath under {@link #DEFAULT_INDEX_LOCATION}
+     *
+     * @param classLoader class loader to find indexes and load indexed classes with
+     * @return number of loaded classes
+     * @throws IOException on read error
+     */
+    public static int loadIndex(ClassLoader classLoader) throws IOException {
+        PathMatchingResourcePatternResolver resolver = new PathMatchingResourcePatternResolver(classLoader);
+        int res = 0;
+        for(Resource re : resolver.getResources("classpath*:" + DEFAULT_INDEX_LOCATION)) {
+            Reader reader = new InputStreamReader(re.getInputStream(), ENCODING);
+            try {
+                res += loadIndex(reader, resolver.getClassLoader());
+            } finally {
+                reader.close();
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Build-time index generation entry point, scans packages, introspects found classes and writes index
+     *
+     * @param args index file path followed by packages names
+     * @throws IOException on scan or write error
+     */
+    public static void main(String[] args) throws IOException {
+        if(args.length < 2) {
+            System.err.println("Usage: java " + NamedConstructorRegistry.class.getName() + " <index file> <package>...");
+            System.exit(1);
+        }
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        List<Class<?>> classes = scanPackages(cl, Arrays.copyOfRange(args, 1, args.length));
+        register(classes);
+        File file = new File(args[0]);
+        File dir = file.getAbsoluteFile().getParentFile();
+        if(!(dir.exists() || dir.mkdirs())) throw new IOException("Cannot create directory: '" + dir + "'");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(file), ENCODING);
+        try {
+            writeIndex(classes, writer);
+        } finally {
+            writer.close();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void register(Class<T> clazz, List<NamedConstructor<?>> constructors) {
+        List<NamedConstructor<T>> list = new ArrayList<NamedConstructor<T>>();
+        for(NamedConstructor<?> nc : constructors) {
+            list.add((NamedConstructor<T>) nc);
+        }
+        NamedConstructorCache.INSTANCE.register(clazz, new NamedConstructorList<T>(clazz, list));
+    }
+
+    private static Class<?> loadClass(String name, ClassLoader classLoader) {
+        Class<?> res = PRIMITIVES.get(name);
+        if(null != res) return res;
+        try {
+            return Class.forName(name, false, classLoader);
+        } catch(ClassNotFoundException e) {
+            throw new IllegalArgumentException("Indexed class not found: '" + name + "'", e);
+        }
+    }
+
+    private static String fingerprint(Class<?> clazz) throws IOException {
+        ClassLoader cl = null != clazz.getClassLoader() ? clazz.getClassLoader() : ClassUtils.getDefaultClassLoader();
+        InputStream is = cl.getResourceAsStream(ClassUtils.convertClassNameToResourcePath(clazz.getName()) + ".class");
+        if(null == is) return null;
+        try {
+            CRC32 crc = new CRC32();
+            byte[] buf = new byte[4096];
+            int read;
+            while(-1 != (read = is.read(buf))) {
+                crc.update(buf, 0, read);
+            }
+            return Long.toHexString(crc.getValue());
+        } finally {
+            is.close();
+        }
+    }
+
+    private static boolean hasNamedConstructors(Class<?> clazz) {
+        try {
+            for(Constructor<?> co : clazz.getDeclaredConstructors()) {
+                for(Annotation[] anns : co.getParameterAnnotations()) {
+                    for(Annotation an : anns) {
+                        if(Named.class.getName().equals(an.annotationType().getName())) return true;
+                    }
+                }
+            }
+        } catch(LinkageError e) {
+            // class with missing dependencies
+        }
+        return false;
+    }
+}
@@ -1,14 +1,20 @@
 package com.alexkasko.springjdbc.named;
 
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-
-import static com.alexkasko.springjdbc.named.LowerColumnMapRowMapper.LOWER_MAPPER;
+import java.util.Set;
 
 /**
  * Named constructor mapper implementation for single class.
- * Converts result set row into case-insensitive map and applies {@link NamedConstructorList} to it.
+ * Chooses constructor from {@link NamedConstructorList} once per result set using its metadata
+ * and reads following rows by column indices. Plans are cached in mapper by result set (see {@link PlanCache}),
+ * so mapper may be shared by threads running concurrent queries.
  *
  * @author alexkasko
  * Date: 7/6/12
@@ -18,6 +24,8 @@ import static com.alexkasko.springjdbc.named.LowerColumnMapRowMapper.LOWER_MAPPE
  */
 class NamedConstructorSingleMapper<T> extends NamedConstructorMapper<T> {
     private final NamedConstructorList<T> list;
+    private final MapperOptions options;
+    private final PlanCache<RowPlan<T>> plans = new PlanCache<RowPlan<T>>();
 
     /**
      * Constructor
@@ -25,7 +33,18 @@ class NamedConstructorSingleMapper<T> extends NamedConstructorMapper<T> {
      * @param list list of constructors
      */
     NamedConstructorSingleMapper(NamedConstructorList<T> list) {
+        this(list, MapperOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param list list of constructors
+     * @param options optional settings
+     */
+    NamedConstructorSingleMapper(NamedConstructorList<T> list, MapperOptions options) {
         this.list = list;
+        this.options = options;
     }
 
     /**
@@ -33,7 +52,57 @@ class NamedConstructorSingleMapper<T> extends NamedConstructorMapper<T> {
      */
     @Override
     public T mapRow(ResultSet rs, int rowNum) throws SQLException {
-        Map<String, ?> map = LOWER_MAPPER.mapRow(rs, rowNum);
-        return list.invoke(map);
+        RowPlan<T> plan = plans.get(rs);
+        if(null == plan) {
+            plan = plan(rs);
+            plans.put(rs, plan);
+        }
+        return plan.invoke(rs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<String>> argumentNames() {
+        List<List<String>> res = new ArrayList<List<String>>();
+        for(NamedConstructor<T> nc : list.constructors()) {
+            res.add(Collections.unmodifiableList(new ArrayList<String>(nc.names)));
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> columnNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<String>(list.constructors().get(0).names));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    RowPlan<T> plan(ResultSet rs) throws SQLException {
+        ResultSetMetaData rsmd = rs.getMetaData();
+        Map<String, Integer> columns = NamedConstructorList.columns(rsmd);
+        return options.plan(list, rsmd, columns);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    MapperOptions options() {
+        return options;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    NamedConstructorMapper<T> withOptions(MapperOptions options) {
+        return new NamedConstructorSingleMapper<T>(list, options);
     }
 }
@@ -1,16 +1,26 @@
 package com.alexkasko.springjdbc.named;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
-import static com.alexkasko.springjdbc.named.LowerColumnMapRowMapper.LOWER_MAPPER;
 import static org.springframework.util.StringUtils.hasText;
 
 /**
- * Named constructor implementation for class hierarchy mapping. Converts result set row into case-insensitive map,
- * chooses function by discriminator column value and applies it.
+ * Named constructor implementation for class hierarchy mapping. Resolves discriminator column index once per result set,
+ * reads discriminator value by index, chooses subclass by it and applies subclass plan (constructor and column indices),
+ * created once per result set on the first row of each subclass. Discriminators may be strings, integral numbers
+ * (compared by {@code long} value) or enums (compared by name with string column values).
  *
  * @author alexkasko
  * Date: 7/6/12
@@ -20,19 +30,34 @@ import static org.springframework.util.StringUtils.hasText;
  */
 class NamedConstructorSubclassesMapper<T> extends NamedConstructorMapper<T> {
     private final String discColumn;
-    private final Map<String, NamedConstructorList<? extends T>> ncMap;
+    private final Map<Object, NamedConstructorList<? extends T>> ncMap;
+    private final MapperOptions options;
+    private final PlanCache<SubclassesPlan<T>> plans = new PlanCache<SubclassesPlan<T>>();
 
     /**
      * Constructor
      *
-     * @param ncMap discriminator value -> named constructor function mapping
+     * @param ncMap normalized discriminator value -> named constructor function mapping
      * @param discColumn discriminator column
      */
-    NamedConstructorSubclassesMapper(Map<String, NamedConstructorList<? extends T>> ncMap, String discColumn) {
+    NamedConstructorSubclassesMapper(Map<Object, NamedConstructorList<? extends T>> ncMap, String discColumn) {
+        this(ncMap, discColumn, MapperOptions.DEFAULT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param ncMap normalized discriminator value -> named constructor function mapping
+     * @param discColumn discriminator column
+     * @param options optional settings
+     */
+    NamedConstructorSubclassesMapper(Map<Object, NamedConstructorList<? extends T>> ncMap, String discColumn,
+                                     MapperOptions options) {
         if(0 == ncMap.size()) throw new IllegalArgumentException("Provided functions map is empty");
         if(!hasText(discColumn)) throw new IllegalArgumentException("Provided discriminator column is blank");
         this.ncMap = ncMap;
         this.discColumn = discColumn.toLowerCase(Locale.ENGLISH);
+        this.options = options;
     }
 
     /**
@@ -40,13 +65,157 @@ class NamedConstructorSubclassesMapper<T> extends NamedConstructorMapper<T> {
      */
     @Override
     public T mapRow(ResultSet rs, int rowNum) throws SQLException {
-        Map<String, ?> map = LOWER_MAPPER.mapRow(rs, rowNum);
-        String discVal = (String) map.get(discColumn);
-        if(null == discVal) throw new IllegalArgumentException("Null or absent value of disc column: '" + discColumn + "' " +
-                "in row data: '" + map + "'");
-        NamedConstructorList<? extends T> nc = ncMap.get(discVal);
-        if(null == nc) throw new IllegalArgumentException(
-                "Cannot find subclass for discriminator: '" + discVal + "', keys: '" + ncMap.keySet() + "', row data: '" + map + "'");
-        return nc.invoke(map);
+        SubclassesPlan<T> plan = plans.get(rs);
+        if(null == plan) {
+            plan = plan(rs);
+            plans.put(rs, plan);
+        }
+        return plan.invoke(rs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<String>> argumentNames() {
+        List<List<String>> res = new ArrayList<List<String>>();
+        for(NamedConstructorList<? extends T> li : new LinkedHashSet<NamedConstructorList<? extends T>>(ncMap.values())) {
+            for(NamedConstructor<? extends T> nc : li.constructors()) {
+                res.add(Collections.unmodifiableList(new ArrayList<String>(nc.names)));
+            }
+        }
+        return Collections.unmodifiableList(res);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<String> columnNames() {
+        LinkedHashSet<String> res = new LinkedHashSet<String>();
+        res.add(discColumn);
+        for(NamedConstructorList<? extends T> li : ncMap.values()) {
+            res.addAll(li.constructors().get(0).names);
+        }
+        return Collections.unmodifiableSet(res);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    SubclassesPlan<T> plan(ResultSet rs) throws SQLException {
+        ResultSetMetaData rsmd = rs.getMetaData();
+        Map<String, Integer> columns = NamedConstructorList.columns(rsmd);
+        Integer discIndex = columns.get(discColumn);
+        if(null == discIndex) throw options.failed(new IllegalArgumentException(
+                "Absent disc column: '" + discColumn + "' in result set columns: '" + columns.keySet() + "'"));
+        return new SubclassesPlan<T>(ncMap, columns, rsmd.getColumnLabel(discIndex), discIndex, options);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    MapperOptions options() {
+        return options;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    NamedConstructorMapper<T> withOptions(MapperOptions options) {
+        return new NamedConstructorSubclassesMapper<T>(ncMap, discColumn, options);
+    }
+
+    /**
+     * Normalizes discriminator value: integral numbers are converted to {@code Long},
+     * enums and chars to {@code String}, other values are returned as is
+     *
+     * @param value discriminator value
+     * @return normalized value
+     */
+    static Object discKey(Object value) {
+        if(value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return ((Number) value).longValue();
+        }
+        if(value instanceof BigInteger && ((BigInteger) value).bitLength() < 64) return ((BigInteger) value).longValue();
+        if(value instanceof BigDecimal) {
+            BigDecimal bd = (BigDecimal) value;
+            if(bd.signum() == 0 || (bd.stripTrailingZeros().scale() <= 0 && bd.toBigInteger().bitLength() < 64)) {
+                return bd.longValue();
+            }
+        }
+        if(value instanceof Enum) return ((Enum<?>) value).name();
+        if(value instanceof Character) return value.toString();
+        return value;
+    }
+
+    /**
+     * Subclasses plan for single result set, subclass plans are created on the first row of each subclass.
+     * Result set metadata is not kept in plan (drivers' metadata references result set), it is obtained
+     * from result set when subclass plan is created
+     */
+    private static class SubclassesPlan<T> implements RowPlan<T> {
+        private final Map<Object, NamedConstructorList<? extends T>> ncMap;
+        private final Map<String, Integer> columns;
+        private final String discLabel;
+        private final int discIndex;
+        private final MapperOptions options;
+        private final Map<Object, RowPlan<? extends T>> plans = new HashMap<Object, RowPlan<? extends T>>();
+
+        private SubclassesPlan(Map<Object, NamedConstructorList<? extends T>> ncMap, Map<String, Integer> columns,
+                               String discLabel, int discIndex, MapperOptions options) {
+            this.ncMap = ncMap;
+            this.columns = columns;
+            this.discLabel = discLabel;
+            this.discIndex = discIndex;
+            this.options = options;
+        }
+
+        @Override
+        public T invoke(ResultSet rs) throws SQLException {
+            return choose(rs).invoke(rs);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RowData<T> read(ResultSet rs) throws SQLException {
+            return (RowData<T>) choose(rs).read(rs);
+        }
+
+        @Override
+        public NamedConstructorPlan<? extends T> resolve(ResultSet rs) throws SQLException {
+            return choose(rs).resolve(rs);
+        }
+
+        /**
+         * Subclass plans are created lazily, so constructors of all subclasses chosen for result set columns are checked
+         *
+         * @return whether any subclass may read streams or LOB handles
+         */
+        @Override
+        public boolean isStreaming() {
+            for(NamedConstructorList<? extends T> nc : ncMap.values()) {
+                if(nc.isStreaming(columns.keySet())) return true;
+            }
+            return false;
+        }
+
+        private RowPlan<? extends T> choose(ResultSet rs) throws SQLException {
+            Object discVal = discKey(rs.getObject(discIndex));
+            if(null == discVal) throw options.failed(new IllegalArgumentException("Null value of disc column: '" +
+                    discLabel + "', index: '" + discIndex + "'"));
+            RowPlan<? extends T> plan = plans.get(discVal);
+            if(null == plan) {
+                NamedConstructorList<? extends T> nc = ncMap.get(discVal);
+                if(null == nc) throw options.failed(new IllegalArgumentException(
+                        "Cannot find subclass for discriminator: '" + discVal + "', keys: '" + ncMap.keySet() + "'"));
+                plan = options.plan(nc, rs.getMetaData(), columns);
+                plans.put(discVal, plan);
+            }
+            return plan;
+        }
     }
 }
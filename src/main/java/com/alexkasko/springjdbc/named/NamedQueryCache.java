@@ -0,0 +1,342 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caching query facade storing whole mapped query results as unmodifiable lists. Objects mapped with
+ * named constructors are usually immutable, so cached results are shared between threads without copying.
+ * Results are keyed by mapper instance, SQL text and query arguments. Cache is bounded by total rows count
+ * of cached results with least-recently-used eviction, entries may also expire after specified time.
+ * Results may be registered with tags (e.g. table names), {@link #invalidate(String)} removes all results
+ * with the tag. Concurrent misses for the same key run single query, other threads wait for its result.
+ * Results loaded concurrently with invalidation are returned to callers but are not cached.
+ * Stream and {@link LobHandle} constructor arguments are not supported, they are invalid after row is read,
+ * such mappers are rejected with {@code IllegalArgumentException} before reading rows. Instances are thread-safe.
+ *
+ * <pre>
+ * NamedQueryCache cache = new NamedQueryCache(dataSource, 100000, TimeUnit.MINUTES.toMillis(10));
+ * List&lt;Country&gt; list = cache.query(Arrays.asList("countries"), mapper, "select * from countries where region = ?", 1);
+ * ...
+ * cache.invalidate("countries");
+ * </pre>
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class NamedQueryCache {
+    private final JdbcTemplate jt;
+    private final long maxRows;
+    private final long ttlNanos;
+    private final ConcurrentMap<Key, FutureTask<List<?>>> loading = new ConcurrentHashMap<Key, FutureTask<List<?>>>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    // guarded by this
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<Key, Entry>(16, 0.75f, true);
+    private final Map<String, Set<Key>> tagged = new HashMap<String, Set<Key>>();
+    private long rows = 0;
+    private long generation = 0;
+
+    /**
+     * Constructor
+     *
+     * @param ds data source
+     * @param maxRows max total rows count of cached results
+     * @param ttlMillis time in milliseconds after which cached result expires, {@code 0} to disable expiration
+     */
+    public NamedQueryCache(DataSource ds, long maxRows, long ttlMillis) {
+        if(null == ds) throw new IllegalArgumentException("Provided data source is null");
+        if(maxRows <= 0) throw new IllegalArgumentException("Provided max rows is not positive: '" + maxRows + "'");
+        if(ttlMillis < 0) throw new IllegalArgumentException("Provided TTL is negative: '" + ttlMillis + "'");
+        this.jt = new JdbcTemplate(ds);
+        this.maxRows = maxRows;
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+    }
+
+    /**
+     * Returns cached result or executes query and caches its result
+     *
+     * @param mapper named constructor mapper
+     * @param sql query SQL
+     * @param args query arguments
+     * @param <T> object type to map data row to
+     * @return unmodifiable list of mapped objects
+     */
+    public <T> List<T> query(NamedConstructorMapper<T> mapper, String sql, Object... args) {
+        return query(Collections.<String>emptyList(), mapper, sql, args);
+    }
+
+    /**
+     * Returns cached result or executes query and caches its result registering it with provided tags
+     *
+     * @param tags tags to invalidate result with
+     * @param mapper named constructor mapper
+     * @param sql query SQL
+     * @param args query arguments
+     * @param <T> object type to map data row to
+     * @return unmodifiable list of mapped objects
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> query(Collection<String> tags, NamedConstructorMapper<T> mapper, String sql, Object... args) {
+        if(null == tags) throw new IllegalArgumentException("Provided tags are null");
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(null == sql) throw new IllegalArgumentException("Provided sql is null");
+        Key key = new Key(mapper, sql, null != args ? args.clone() : new Object[0]);
+        List<?> cached = get(key);
+        if(null != cached) {
+            hits.incrementAndGet();
+            return (List<T>) cached;
+        }
+        misses.incrementAndGet();
+        FutureTask<List<?>> task = new FutureTask<List<?>>(new Loader(key, tags.toArray(new String[tags.size()])));
+        FutureTask<List<?>> existed = loading.putIfAbsent(key, task);
+        if(null == existed) {
+            try {
+                task.run();
+            } finally {
+                loading.remove(key, task);
+            }
+            existed = task;
+        }
+        try {
+            return (List<T>) existed.get();
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Query cache loading interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if(cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException("Query cache loading error", cause);
+        }
+    }
+
+    /**
+     * Removes all results registered with provided tag
+     *
+     * @param tag tag
+     */
+    public synchronized void invalidate(String tag) {
+        if(null == tag) throw new IllegalArgumentException("Provided tag is null");
+        generation += 1;
+        Set<Key> keys = tagged.remove(tag);
+        if(null == keys) return;
+        for(Key key : keys) {
+            Entry en = entries.remove(key);
+            if(null != en) unregister(key, en);
+        }
+    }
+
+    /**
+     * Removes all cached results
+     */
+    public synchronized void invalidateAll() {
+        generation += 1;
+        entries.clear();
+        tagged.clear();
+        rows = 0;
+    }
+
+    /**
+     * @return cached results count
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return total rows count of cached results
+     */
+    public synchronized long rows() {
+        return rows;
+    }
+
+    /**
+     * @return number of queries answered from cache
+     */
+    public long hitCount() {
+        return hits.get();
+    }
+
+    /**
+     * @return number of queries not found in cache, including queries waiting for concurrent loading
+     */
+    public long missCount() {
+        return misses.get();
+    }
+
+    /**
+     * @return number of results evicted to fit rows bound
+     */
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * @return ratio of queries answered from cache, {@code 0} if there were no queries
+     */
+    public double hitRate() {
+        long hi = hits.get();
+        long total = hi + misses.get();
+        return total > 0 ? (double) hi / total : 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("NamedQueryCache");
+        sb.append("{size=").append(size());
+        sb.append(", rows=").append(rows());
+        sb.append(", hitRate=").append(hitRate());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private synchronized List<?> get(Key key) {
+        Entry en = entries.get(key);
+        if(null == en) return null;
+        if(ttlNanos > 0 && System.nanoTime() - en.created > ttlNanos) {
+            entries.remove(key);
+            unregister(key, en);
+            return null;
+        }
+        return en.list;
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    private synchronized void put(Key key, Entry en, long loadGeneration) {
+        if(loadGeneration != generation) return;
+        Entry existed = entries.put(key, en);
+        if(null != existed) unregister(key, existed);
+        rows += en.list.size();
+        for(String tag : en.tags) {
+            Set<Key> keys = tagged.get(tag);
+            if(null == keys) {
+                keys = new HashSet<Key>();
+                tagged.put(tag, keys);
+            }
+            keys.add(key);
+        }
+        Iterator<Map.Entry<Key, Entry>> it = entries.entrySet().iterator();
+        while(rows > maxRows && it.hasNext()) {
+            Map.Entry<Key, Entry> eldest = it.next();
+            it.remove();
+            unregister(eldest.getKey(), eldest.getValue());
+            evictions.incrementAndGet();
+        }
+    }
+
+    // must be called under lock after removing entry
+    private void unregister(Key key, Entry en) {
+        rows -= en.list.size();
+        for(String tag : en.tags) {
+            Set<Key> keys = tagged.get(tag);
+            if(null == keys) continue;
+            keys.remove(key);
+            if(keys.isEmpty()) tagged.remove(tag);
+        }
+    }
+
+    private class Loader implements Callable<List<?>> {
+        private final Key key;
+        private final String[] tags;
+
+        private Loader(Key key, String[] tags) {
+            this.key = key;
+            this.tags = tags;
+        }
+
+        @Override
+        public List<?> call() {
+            List<?> cached = get(key);
+            if(null != cached) return cached;
+            long gen = generation();
+            List<?> list = Collections.unmodifiableList(jt.query(key.sql, key.args, extractor(key.mapper)));
+            put(key, new Entry(list, tags, System.nanoTime()), gen);
+            return list;
+        }
+    }
+
+    private static <T> ResultSetExtractor<List<T>> extractor(final NamedConstructorMapper<T> mapper) {
+        return new ResultSetExtractor<List<T>>() {
+            @Override
+            public List<T> extractData(ResultSet rs) throws SQLException {
+                RowPlan<T> plan = mapper.detachedPlan(rs);
+                List<T> res = new ArrayList<T>();
+                while(rs.next()) {
+                    res.add(plan.invoke(rs));
+                }
+                return res;
+            }
+        };
+    }
+
+    private static class Entry {
+        private final List<?> list;
+        private final String[] tags;
+        private final long created;
+
+        private Entry(List<?> list, String[] tags, long created) {
+            this.list = list;
+            this.tags = tags;
+            this.created = created;
+        }
+    }
+
+    private static class Key {
+        private final NamedConstructorMapper<?> mapper;
+        private final String sql;
+        private final Object[] args;
+        private final int hash;
+
+        private Key(NamedConstructorMapper<?> mapper, String sql, Object[] args) {
+            this.mapper = mapper;
+            this.sql = sql;
+            this.args = args;
+            this.hash = 31 * (31 * System.identityHashCode(mapper) + sql.hashCode()) + Arrays.deepHashCode(args);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) return true;
+            if(!(o instanceof Key)) return false;
+            Key key = (Key) o;
+            return mapper == key.mapper && sql.equals(key.sql) && Arrays.deepEquals(args, key.args);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
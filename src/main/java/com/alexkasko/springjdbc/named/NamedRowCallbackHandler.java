@@ -0,0 +1,63 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@code RowCallbackHandler} that maps each row with named constructor mapper and passes
+ * mapped object to {@link #processObject(Object)} while its row is still current. Objects with
+ * {@code InputStream}, {@code Reader} or {@link LobHandle} constructor arguments may be streamed in callback
+ * with constant memory per row. Mapping plan is created once per result set, constructor arguments array
+ * is reused for all rows. Handler instances are not thread-safe.
+ * Use {@link NamedTupleCallbackHandler} to access arguments without instantiating objects.
+ *
+ * <pre>
+ * jt.query("select id, content from documents", new NamedRowCallbackHandler&lt;Document&gt;(mapper) {
+ *     protected void processObject(Document doc) throws SQLException {
+ *         copy(doc.getContent().getBinaryStream(), out);
+ *     }
+ * });
+ * </pre>
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see LobHandle
+ */
+public abstract class NamedRowCallbackHandler<T> implements RowCallbackHandler {
+    private final NamedConstructorMapper<T> mapper;
+    private BoundPlan<RowPlan<T>> last;
+
+    /**
+     * Constructor
+     *
+     * @param mapper mapper to map rows with
+     */
+    protected NamedRowCallbackHandler(NamedConstructorMapper<T> mapper) {
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        BoundPlan<RowPlan<T>> bp = last;
+        if(null == bp || !bp.isFor(rs)) {
+            bp = new BoundPlan<RowPlan<T>>(rs, mapper.plan(rs));
+            last = bp;
+        }
+        processObject(bp.plan.invoke(rs));
+    }
+
+    /**
+     * Processes mapped object, streams and LOB handles of object are valid only during this call
+     *
+     * @param obj mapped object
+     * @throws SQLException on LOB access error
+     */
+    protected abstract void processObject(T obj) throws SQLException;
+}
@@ -0,0 +1,189 @@
+package com.alexkasko.springjdbc.named;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Locale;
+
+/**
+ * Reusable view over constructor arguments of current result set row, arguments are read from result set
+ * on access by their positions in constructor chosen by mapper, object is not instantiated.
+ * Primitive getters read columns without boxing, {@link #getObject(int)} reads values the same way as mapper
+ * does for constructor invocation (with typed readers and converters). View instance is reused for all rows
+ * and is valid only during {@link NamedTupleCallbackHandler#processTuple(NamedTuple)} call.
+ * Argument positions are stable while {@link #type()} is the same, they may be resolved once with {@link #indexOf(String)}.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedTupleCallbackHandler
+ */
+public class NamedTuple {
+    private ResultSet rs;
+    private NamedConstructorPlan<?> plan;
+    private String[] names;
+
+    /**
+     * Package-private constructor
+     */
+    NamedTuple() {
+    }
+
+    /**
+     * Binds view to current row
+     *
+     * @param rs result set
+     * @param plan constructor plan for current row
+     */
+    void bind(ResultSet rs, NamedConstructorPlan<?> plan) {
+        this.rs = rs;
+        this.plan = plan;
+        this.names = plan.names;
+    }
+
+    /**
+     * @return class chosen for current row
+     */
+    public Class<?> type() {
+        return plan.constructor.clazz;
+    }
+
+    /**
+     * @return short signature of constructor chosen for current row
+     */
+    public String signature() {
+        return plan.constructor.signature;
+    }
+
+    /**
+     * @return arguments count
+     */
+    public int size() {
+        return names.length;
+    }
+
+    /**
+     * @param index argument index
+     * @return lower case argument name
+     */
+    public String name(int index) {
+        return names[index];
+    }
+
+    /**
+     * @param name argument name, case-insensitive
+     * @return argument index or {@code -1} if constructor doesn't have such argument
+     */
+    public int indexOf(String name) {
+        if(null == name) throw new IllegalArgumentException("Provided name is null");
+        String lower = name.toLowerCase(Locale.ENGLISH);
+        for(int i = 0; i < names.length; i++) {
+            if(names[i].equals(lower)) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, {@code 0} for SQL NULL
+     * @throws SQLException on column value access error
+     */
+    public int getInt(int index) throws SQLException {
+        return rs.getInt(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, {@code 0} for SQL NULL
+     * @throws SQLException on column value access error
+     */
+    public long getLong(int index) throws SQLException {
+        return rs.getLong(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, {@code 0} for SQL NULL
+     * @throws SQLException on column value access error
+     */
+    public double getDouble(int index) throws SQLException {
+        return rs.getDouble(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, {@code false} for SQL NULL
+     * @throws SQLException on column value access error
+     */
+    public boolean getBoolean(int index) throws SQLException {
+        return rs.getBoolean(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, may be null
+     * @throws SQLException on column value access error
+     */
+    public String getString(int index) throws SQLException {
+        return rs.getString(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, may be null
+     * @throws SQLException on column value access error
+     */
+    public BigDecimal getBigDecimal(int index) throws SQLException {
+        return rs.getBigDecimal(column(index));
+    }
+
+    /**
+     * @param index argument index
+     * @return argument value, may be null
+     * @throws SQLException on column value access error
+     */
+    public Timestamp getTimestamp(int index) throws SQLException {
+        return rs.getTimestamp(column(index));
+    }
+
+    /**
+     * Reads argument the same way as it's read for constructor invocation
+     *
+     * @param index argument index
+     * @return argument value, may be null
+     * @throws SQLException on column value access error
+     */
+    public Object getObject(int index) throws SQLException {
+        column(index);
+        return plan.readArg(rs, index);
+    }
+
+    /**
+     * @return whether last read argument was SQL NULL
+     * @throws SQLException on result set access error
+     */
+    public boolean wasNull() throws SQLException {
+        return rs.wasNull();
+    }
+
+    private int column(int index) {
+        if(index < 0 || index >= names.length) throw new IllegalArgumentException(
+                "Invalid argument index: '" + index + "', constructor: '" + plan.constructor + "'");
+        int col = plan.indices[index];
+        if(col <= 0) throw new IllegalArgumentException("Argument: '" + names[index] + "' is not read from result set, " +
+                "constructor: '" + plan.constructor + "'");
+        return col;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("NamedTuple");
+        sb.append("{constructor=").append(null != plan ? plan.constructor : null);
+        sb.append('}');
+        return sb.toString();
+    }
+}
@@ -0,0 +1,68 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * {@code RowCallbackHandler} that passes constructor arguments of each row to {@link #processTuple(NamedTuple)}
+ * without instantiating objects. Constructor is chosen by mapper once per result set (or once per subclass
+ * for subclasses mapper), the same {@link NamedTuple} view is reused for all rows, so aggregations
+ * over primitive arguments don't allocate memory per row. Values canonicalization, instances reuse
+ * and listener of mapper are not applied. Handler instances are not thread-safe.
+ * Mapper must be created with {@link NamedConstructorMapper#forClass(Class)} or {@link NamedConstructorMapper#builder(String)},
+ * custom mapper subclasses don't provide constructor arguments and cause {@code UnsupportedOperationException}
+ * on first row.
+ *
+ * <pre>
+ * final long[] sum = new long[1];
+ * jt.query("select * from events", new NamedTupleCallbackHandler&lt;Event&gt;(mapper) {
+ *     protected void processTuple(NamedTuple tuple) throws SQLException {
+ *         sum[0] += tuple.getLong(tuple.indexOf("amount"));
+ *     }
+ * });
+ * </pre>
+ *
+ * @param <T> object type mapper maps data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedRowCallbackHandler
+ */
+public abstract class NamedTupleCallbackHandler<T> implements RowCallbackHandler {
+    private final NamedConstructorMapper<T> mapper;
+    private final NamedTuple tuple = new NamedTuple();
+    private BoundPlan<RowPlan<T>> last;
+
+    /**
+     * Constructor
+     *
+     * @param mapper mapper to choose constructors with
+     */
+    protected NamedTupleCallbackHandler(NamedConstructorMapper<T> mapper) {
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        this.mapper = mapper;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void processRow(ResultSet rs) throws SQLException {
+        BoundPlan<RowPlan<T>> bp = last;
+        if(null == bp || !bp.isFor(rs)) {
+            bp = new BoundPlan<RowPlan<T>>(rs, mapper.plan(rs));
+            last = bp;
+        }
+        tuple.bind(rs, bp.plan.resolve(rs));
+        processTuple(tuple);
+    }
+
+    /**
+     * Processes constructor arguments of current row, tuple is valid only during this call
+     *
+     * @param tuple arguments view
+     * @throws SQLException on column value access error
+     */
+    protected abstract void processTuple(NamedTuple tuple) throws SQLException;
+}
@@ -0,0 +1,180 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * {@code ResultSetExtractor} for joined parent-child result sets. Columns are split into groups by name prefixes
+ * (e.g. {@code order_*} and {@code line_*}), prefixes are stripped and groups are mapped to parent and child classes
+ * using their named constructors. Consecutive rows with equal key column values are collected into single parent,
+ * child objects from these rows are passed as {@code List} into parent constructor argument with specified
+ * {@code @Named} value. Result set must be ordered by key column. Rows without child (outer join without children)
+ * produce empty children lists, they are detected by {@code NULL} value of child key column if it is specified,
+ * otherwise by all child columns being {@code NULL} (all child columns including LOBs are read for each row).
+ * Result set is read in single pass without intermediate rows storage. Constructors are chosen once per result set.
+ * Extractor instances are thread-safe.
+ *
+ * <pre>
+ * // select o.id as order_id, o.customer as order_customer, l.id as line_id, l.product as line_product
+ * // from orders o left join lines l on l.order_id = o.id order by o.id
+ * OneToManyResultSetExtractor&lt;Order, Line&gt; extractor = new OneToManyResultSetExtractor&lt;Order, Line&gt;(
+ *         Order.class, "order_", "order_id", Line.class, "line_", "line_id", "lines");
+ * List&lt;Order&gt; orders = jt.query(sql, extractor);
+ * </pre>
+ *
+ * @param <P> parent type
+ * @param <C> child type
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class OneToManyResultSetExtractor<P, C> implements ResultSetExtractor<List<P>> {
+    private final NamedConstructorList<P> parent;
+    private final String parentPrefix;
+    private final String keyColumn;
+    private final NamedConstructorList<C> child;
+    private final String childPrefix;
+    private final String childKeyColumn;
+    private final String childrenArgument;
+
+    /**
+     * Constructor, rows without child are detected by all child columns being {@code NULL}
+     *
+     * @param parentClass parent class
+     * @param parentPrefix parent columns names prefix, may be empty
+     * @param keyColumn parent key column name (with prefix)
+     * @param childClass child class
+     * @param childPrefix child columns names prefix
+     * @param childrenArgument {@code @Named} value of parent constructor argument for children list
+     */
+    public OneToManyResultSetExtractor(Class<P> parentClass, String parentPrefix, String keyColumn,
+                                       Class<C> childClass, String childPrefix, String childrenArgument) {
+        this(parentClass, parentPrefix, keyColumn, childClass, childPrefix, null, childrenArgument, false);
+    }
+
+    /**
+     * Constructor, rows without child are detected by {@code NULL} value of child key column
+     *
+     * @param parentClass parent class
+     * @param parentPrefix parent columns names prefix, may be empty
+     * @param keyColumn parent key column name (with prefix)
+     * @param childClass child class
+     * @param childPrefix child columns names prefix
+     * @param childKeyColumn child key column name (with prefix), must not be {@code NULL} for existing children
+     * @param childrenArgument {@code @Named} value of parent constructor argument for children list
+     */
+    public OneToManyResultSetExtractor(Class<P> parentClass, String parentPrefix, String keyColumn,
+                                       Class<C> childClass, String childPrefix, String childKeyColumn,
+                                       String childrenArgument) {
+        this(parentClass, parentPrefix, keyColumn, childClass, childPrefix, childKeyColumn, childrenArgument, true);
+    }
+
+    private OneToManyResultSetExtractor(Class<P> parentClass, String parentPrefix, String keyColumn,
+                                        Class<C> childClass, String childPrefix, String childKeyColumn,
+                                        String childrenArgument, boolean hasChildKey) {
+        if(null == parentPrefix) throw new IllegalArgumentException("Provided parent prefix is null");
+        if(!hasText(keyColumn)) throw new IllegalArgumentException("Provided key column is blank");
+        if(!hasText(childPrefix)) throw new IllegalArgumentException("Provided child prefix is blank");
+        if(hasChildKey && !hasText(childKeyColumn)) throw new IllegalArgumentException("Provided child key column is blank");
+        if(!hasText(childrenArgument)) throw new IllegalArgumentException("Provided children argument is blank");
+        this.parent = NamedConstructorCache.INSTANCE.forClass(parentClass);
+        this.parentPrefix = parentPrefix.toLowerCase(Locale.ENGLISH);
+        this.keyColumn = keyColumn.toLowerCase(Locale.ENGLISH);
+        this.child = NamedConstructorCache.INSTANCE.forClass(childClass);
+        this.childPrefix = childPrefix.toLowerCase(Locale.ENGLISH);
+        this.childKeyColumn = hasChildKey ? childKeyColumn.toLowerCase(Locale.ENGLISH) : null;
+        this.childrenArgument = childrenArgument.toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<P> extractData(ResultSet rs) throws SQLException {
+        ResultSetMetaData rsmd = rs.getMetaData();
+        Map<String, Integer> columns = NamedConstructorList.columns(rsmd);
+        Integer keyIndex = columns.get(keyColumn);
+        if(null == keyIndex) throw new IllegalArgumentException(
+                "Absent key column: '" + keyColumn + "' in result set columns: '" + columns.keySet() + "'");
+        Map<String, Integer> parentColumns = stripPrefix(columns, parentPrefix);
+        parentColumns.put(childrenArgument, 0);
+        NamedConstructorPlan<P> parentPlan = parent.plan(rsmd, parentColumns);
+        int childrenPos = childrenPosition(parentPlan.constructor);
+        NamedConstructorPlan<C> childPlan = child.plan(rsmd, stripPrefix(columns, childPrefix));
+        int[] childIndices = childIndices(columns, childPlan);
+        List<P> res = new ArrayList<P>();
+        Object key = null;
+        RowData<P> current = null;
+        List<C> children = null;
+        while(rs.next()) {
+            Object rowKey = rs.getObject(keyIndex);
+            if(null == rowKey) throw new IllegalArgumentException("Null value of key column: '" + keyColumn + "'");
+            if(null == current || !rowKey.equals(key)) {
+                if(null != current) res.add(finish(current, childrenPos, children));
+                key = rowKey;
+                current = parentPlan.read(rs);
+                children = new ArrayList<C>();
+            }
+            if(hasValues(rs, childIndices)) children.add(childPlan.invoke(rs));
+        }
+        if(null != current) res.add(finish(current, childrenPos, children));
+        return res;
+    }
+
+    private int childrenPosition(NamedConstructor<P> nc) {
+        int pos = 0;
+        for(String na : nc.names) {
+            if(childrenArgument.equals(na)) {
+                if(!nc.types[pos].isAssignableFrom(ArrayList.class)) throw new IllegalArgumentException(
+                        "Children argument: '" + childrenArgument + "' type: '" + nc.types[pos].getName() + "' " +
+                        "is not compatible with 'java.util.List', constructor: '" + nc + "'");
+                return pos;
+            }
+            pos += 1;
+        }
+        throw new IllegalArgumentException(
+                "Children argument: '" + childrenArgument + "' not found in chosen parent constructor: '" + nc + "'");
+    }
+
+    private int[] childIndices(Map<String, Integer> columns, NamedConstructorPlan<C> childPlan) {
+        if(null == childKeyColumn) return childPlan.indices;
+        Integer index = columns.get(childKeyColumn);
+        if(null == index) throw new IllegalArgumentException(
+                "Absent child key column: '" + childKeyColumn + "' in result set columns: '" + columns.keySet() + "'");
+        return new int[]{index};
+    }
+
+    private static Map<String, Integer> stripPrefix(Map<String, Integer> columns, String prefix) {
+        Map<String, Integer> res = new HashMap<String, Integer>();
+        for(Map.Entry<String, Integer> en : columns.entrySet()) {
+            String name = en.getKey();
+            if(name.length() > prefix.length() && name.startsWith(prefix)) {
+                res.put(name.substring(prefix.length()), en.getValue());
+            }
+        }
+        return res;
+    }
+
+    private static boolean hasValues(ResultSet rs, int[] indices) throws SQLException {
+        for(int idx : indices) {
+            rs.getObject(idx);
+            if(!rs.wasNull()) return true;
+        }
+        return false;
+    }
+
+    private static <P> P finish(RowData<P> data, int childrenPos, Object children) {
+        data.setArg(childrenPos, children);
+        return data.invoke();
+    }
+}
@@ -0,0 +1,149 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * {@code ResultSetExtractor} that decouples reading result set from objects instantiation.
+ * Calling thread only reads column values into batches of constructor arguments, batches are
+ * instantiated in provided executor (e.g. {@code ForkJoinPool} or virtual threads executor on newer JVMs).
+ * Number of batches submitted to executor but not instantiated yet is bounded, reading thread
+ * blocks when this limit is reached. Results may be returned in original rows order or in batches
+ * completion order. Useful for classes with heavy constructors (validation, parsing etc).
+ * Reading stops on the first failed batch, its error is thrown after submitted batches are collected or cancelled.
+ * Extractor instances are thread-safe and may be reused, executor is not shut down by extractor.
+ * Stream and {@link LobHandle} constructor arguments are not supported, they are invalid after row is read,
+ * such mappers are rejected with {@code IllegalArgumentException} before reading rows.
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class ParallelResultSetExtractor<T> implements ResultSetExtractor<List<T>> {
+    private final NamedConstructorMapper<T> mapper;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxPendingBatches;
+    private final boolean ordered;
+
+    /**
+     * Constructor, uses batches of 256 rows, up to 16 pending batches and keeps rows order
+     *
+     * @param mapper named constructor mapper
+     * @param executor executor to instantiate objects in
+     */
+    public ParallelResultSetExtractor(NamedConstructorMapper<T> mapper, ExecutorService executor) {
+        this(mapper, executor, 256, 16, true);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param mapper named constructor mapper
+     * @param executor executor to instantiate objects in
+     * @param batchSize number of rows in single executor task
+     * @param maxPendingBatches max number of batches read but not instantiated yet
+     * @param ordered whether to keep original rows order, batches completion order is used otherwise
+     */
+    public ParallelResultSetExtractor(NamedConstructorMapper<T> mapper, ExecutorService executor, int batchSize,
+                                      int maxPendingBatches, boolean ordered) {
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(null == executor) throw new IllegalArgumentException("Provided executor is null");
+        if(batchSize <= 0) throw new IllegalArgumentException("Provided batch size is not positive: '" + batchSize + "'");
+        if(maxPendingBatches <= 0) throw new IllegalArgumentException(
+                "Provided max pending batches is not positive: '" + maxPendingBatches + "'");
+        this.mapper = mapper;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.maxPendingBatches = maxPendingBatches;
+        this.ordered = ordered;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<T> extractData(ResultSet rs) throws SQLException {
+        RowPlan<T> plan = mapper.detachedPlan(rs);
+        Semaphore pending = new Semaphore(maxPendingBatches);
+        AtomicBoolean failed = new AtomicBoolean(false);
+        CompletionService<List<T>> cs = new ExecutorCompletionService<List<T>>(executor);
+        List<Future<List<T>>> futures = new ArrayList<Future<List<T>>>();
+        List<T> res = new ArrayList<T>();
+        try {
+            List<RowData<T>> batch = new ArrayList<RowData<T>>(batchSize);
+            while(!failed.get() && rs.next()) {
+                batch.add(plan.read(rs));
+                if(batch.size() == batchSize) {
+                    submit(batch, pending, failed, cs, futures);
+                    batch = new ArrayList<RowData<T>>(batchSize);
+                }
+            }
+            if(!failed.get() && batch.size() > 0) submit(batch, pending, failed, cs, futures);
+            if(ordered) {
+                for(Future<List<T>> fu : futures) {
+                    res.addAll(fu.get());
+                }
+            } else {
+                for(int i = 0; i < futures.size(); i++) {
+                    res.addAll(cs.take().get());
+                }
+            }
+            return res;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Parallel mapping interrupted", e);
+        } catch(ExecutionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if(cause instanceof Error) throw (Error) cause;
+            throw new RuntimeException("Parallel mapping error", cause);
+        } finally {
+            for(Future<List<T>> fu : futures) {
+                fu.cancel(false);
+            }
+        }
+    }
+
+    private void submit(List<RowData<T>> batch, Semaphore pending, AtomicBoolean failed, CompletionService<List<T>> cs,
+                        List<Future<List<T>>> futures) throws InterruptedException {
+        pending.acquire();
+        futures.add(cs.submit(new BatchTask<T>(batch, pending, failed)));
+    }
+
+    private static class BatchTask<T> implements Callable<List<T>> {
+        private final List<RowData<T>> batch;
+        private final Semaphore pending;
+        private final AtomicBoolean failed;
+
+        private BatchTask(List<RowData<T>> batch, Semaphore pending, AtomicBoolean failed) {
+            this.batch = batch;
+            this.pending = pending;
+            this.failed = failed;
+        }
+
+        @Override
+        public List<T> call() {
+            boolean success = false;
+            try {
+                List<T> res = new ArrayList<T>(batch.size());
+                for(RowData<T> rd : batch) {
+                    res.add(rd.invoke());
+                }
+                success = true;
+                return res;
+            } finally {
+                // flag is set before release, so reading thread unblocked by this batch sees it
+                if(!success) failed.set(true);
+                pending.release();
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.*;
+
+import static org.springframework.util.StringUtils.hasText;
+
+/**
+ * Write-side counterpart of {@link NamedConstructorMapper}: extracts values for {@code @Named} constructor
+ * arguments from objects to use them as statement parameters (e.g. for batch inserts of the same classes that
+ * are read with mappers). Each name is matched once on extractor creation to no-arg accessor ({@code getFoo},
+ * {@code isFoo} or {@code foo}) or field, comparison is case-insensitive and ignores underscores, so
+ * {@code customer_id} name matches {@code getCustomerId()} method and {@code customerId} field. Public members
+ * of public classes are read through class generated at runtime, other members through reflection with
+ * members looked up on creation. SQL types for parameters are resolved from member types on creation.
+ * Extractor creation is relatively expensive, instances should be created once and reused, they are thread-safe.
+ *
+ * <pre>
+ * ParameterExtractor&lt;Foo&gt; extractor = ParameterExtractor.forClass(Foo.class, "id", "foo", "bar");
+ * jt.batchUpdate("insert into foo_table(id, foo, bar) values(?, ?, ?)", extractor.batchSetter(list));
+ * npjt.batchUpdate("insert into foo_table(id, foo) values(:id, :foo)", extractor.parameterSources(list));
+ * </pre>
+ *
+ * @param <T> object type to extract values from
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class ParameterExtractor<T> {
+    private final Class<T> clazz;
+    private final String[] names;
+    private final int[] sqlTypes;
+    private final Map<String, Integer> indices;
+    private final ValuesAccessor<T> accessor;
+
+    /**
+     * Constructor
+     *
+     * @param clazz class to extract values from
+     * @param names lower case value names
+     */
+    private ParameterExtractor(Class<T> clazz, Collection<String> names) {
+        this.clazz = clazz;
+        this.names = names.toArray(new String[names.size()]);
+        this.sqlTypes = new int[this.names.length];
+        this.indices = new HashMap<String, Integer>(this.names.length);
+        Member[] members = new Member[this.names.length];
+        for(int i = 0; i < this.names.length; i++) {
+            members[i] = findMember(clazz, this.names[i]);
+            Class<?> type = members[i] instanceof Field ? ((Field) members[i]).getType() : ((Method) members[i]).getReturnType();
+            sqlTypes[i] = StatementCreatorUtils.javaTypeToSqlParameterType(type);
+            indices.put(this.names[i], i);
+        }
+        this.accessor = GeneratedValuesAccessor.forMembers(clazz, members);
+    }
+
+    /**
+     * Factory method, extracts values for all {@code @Named} constructor arguments of provided class,
+     * arguments of constructors with more arguments go first
+     *
+     * @param clazz class to extract values from
+     * @param <T> class type parameter
+     * @return extractor instance
+     */
+    public static <T> ParameterExtractor<T> forClass(Class<T> clazz) {
+        return new ParameterExtractor<T>(clazz, NamedConstructorCache.INSTANCE.forClass(clazz).names());
+    }
+
+    /**
+     * Factory method, extracts values with provided names in provided order
+     *
+     * @param clazz class to extract values from
+     * @param names value names, e.g. columns list of insert statement
+     * @param <T> class type parameter
+     * @return extractor instance
+     */
+    public static <T> ParameterExtractor<T> forClass(Class<T> clazz, String... names) {
+        if(null == clazz) throw new IllegalArgumentException("Provided class is null");
+        if(null == names || 0 == names.length) throw new IllegalArgumentException("Provided names are empty");
+        LinkedHashSet<String> set = new LinkedHashSet<String>();
+        for(String na : names) {
+            if(!hasText(na)) throw new IllegalArgumentException("Provided names contain blank value: '" + Arrays.toString(names) + "'");
+            boolean unique = set.add(na.toLowerCase(Locale.ENGLISH));
+            if(!unique) throw new IllegalArgumentException("Not unique name: '" + na + "'");
+        }
+        return new ParameterExtractor<T>(clazz, set);
+    }
+
+    /**
+     * @return lower case value names in extraction order
+     */
+    public List<String> names() {
+        return Collections.unmodifiableList(Arrays.asList(names));
+    }
+
+    /**
+     * Extracts values from object
+     *
+     * @param obj object
+     * @return values in names order
+     */
+    public Object[] values(T obj) {
+        Object[] res = new Object[names.length];
+        values(obj, res);
+        return res;
+    }
+
+    /**
+     * Creates batch setter, that sets values of each object as statement parameters in names order
+     *
+     * @param objects objects to set as batch parameters
+     * @return batch setter
+     */
+    public BatchPreparedStatementSetter batchSetter(List<? extends T> objects) {
+        if(null == objects) throw new IllegalArgumentException("Provided objects list is null");
+        return new Setter<T>(this, objects);
+    }
+
+    /**
+     * Creates parameter source for {@code NamedParameterJdbcTemplate}, parameters names are case-insensitive
+     *
+     * @param obj object
+     * @return parameter source
+     */
+    public SqlParameterSource parameterSource(T obj) {
+        return new ValuesParameterSource(this, values(obj));
+    }
+
+    /**
+     * Creates parameter sources for {@code NamedParameterJdbcTemplate.batchUpdate}
+     *
+     * @param objects objects
+     * @return parameter sources
+     */
+    public SqlParameterSource[] parameterSources(Collection<? extends T> objects) {
+        if(null == objects) throw new IllegalArgumentException("Provided objects collection is null");
+        SqlParameterSource[] res = new SqlParameterSource[objects.size()];
+        int ind = 0;
+        for(T obj : objects) {
+            res[ind++] = parameterSource(obj);
+        }
+        return res;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder();
+        sb.append("ParameterExtractor");
+        sb.append("{class=").append(clazz.getName());
+        sb.append(", names=").append(Arrays.toString(names));
+        sb.append(", accessor=").append(accessor.getClass().getSimpleName());
+        sb.append('}');
+        return sb.toString();
+    }
+
+    private void values(T obj, Object[] values) {
+        if(null == obj) throw new IllegalArgumentException("Provided object is null");
+        try {
+            accessor.values(obj, values);
+        } catch(Exception e) {
+            throw new RuntimeException("Values extraction error, class: '" + clazz.getName() + "', " +
+                    "names: '" + Arrays.toString(names) + "'", e);
+        }
+    }
+
+    private static Member findMember(Class<?> clazz, String name) {
+        String norm = normalize(name);
+        for(Class<?> cl = clazz; null != cl && Object.class != cl; cl = cl.getSuperclass()) {
+            for(Method me : cl.getDeclaredMethods()) {
+                if(0 != me.getParameterTypes().length || void.class == me.getReturnType()) continue;
+                if(Modifier.isStatic(me.getModifiers()) || me.isSynthetic()) continue;
+                String mn = normalize(me.getName());
+                boolean bool = boolean.class == me.getReturnType() || Boolean.class == me.getReturnType();
+                if(mn.equals(norm) || mn.equals("get" + norm) || (bool && mn.equals("is" + norm))) return me;
+            }
+        }
+        for(Class<?> cl = clazz; null != cl && Object.class != cl; cl = cl.getSuperclass()) {
+            for(Field fi : cl.getDeclaredFields()) {
+                if(Modifier.isStatic(fi.getModifiers()) || fi.isSynthetic()) continue;
+                if(normalize(fi.getName()).equals(norm)) return fi;
+            }
+        }
+        throw new IllegalArgumentException("No field or accessor found for name: '" + name + "' in class: '" + clazz + "'");
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+    }
+
+    private static class Setter<T> implements BatchPreparedStatementSetter {
+        private final ParameterExtractor<T> extractor;
+        private final List<? extends T> objects;
+        private final Object[] buffer;
+
+        private Setter(ParameterExtractor<T> extractor, List<? extends T> objects) {
+            this.extractor = extractor;
+            this.objects = objects;
+            this.buffer = new Object[extractor.names.length];
+        }
+
+        @Override
+        public void setValues(PreparedStatement ps, int i) throws SQLException {
+            extractor.values(objects.get(i), buffer);
+            int[] sqlTypes = extractor.sqlTypes;
+            for(int j = 0; j < buffer.length; j++) {
+                StatementCreatorUtils.setParameterValue(ps, j + 1, sqlTypes[j], buffer[j]);
+            }
+        }
+
+        @Override
+        public int getBatchSize() {
+            return objects.size();
+        }
+    }
+
+    private static class ValuesParameterSource implements SqlParameterSource {
+        private final ParameterExtractor<?> extractor;
+        private final Object[] values;
+
+        private ValuesParameterSource(ParameterExtractor<?> extractor, Object[] values) {
+            this.extractor = extractor;
+            this.values = values;
+        }
+
+        @Override
+        public boolean hasValue(String paramName) {
+            return null != index(paramName);
+        }
+
+        @Override
+        public Object getValue(String paramName) throws IllegalArgumentException {
+            Integer ind = index(paramName);
+            if(null == ind) throw new IllegalArgumentException("No value registered for parameter: '" + paramName + "'");
+            return values[ind];
+        }
+
+        @Override
+        public int getSqlType(String paramName) {
+            Integer ind = index(paramName);
+            return null != ind ? extractor.sqlTypes[ind] : TYPE_UNKNOWN;
+        }
+
+        @Override
+        public String getTypeName(String paramName) {
+            return null;
+        }
+
+        private Integer index(String paramName) {
+            Integer res = extractor.indices.get(paramName);
+            return null != res ? res : extractor.indices.get(paramName.toLowerCase(Locale.ENGLISH));
+        }
+    }
+}
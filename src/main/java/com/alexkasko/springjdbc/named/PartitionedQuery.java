@@ -0,0 +1,254 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Query over numeric key range split into sub-ranges executed concurrently in provided executor,
+ * each sub-range query uses its own connection obtained from data source and is mapped with the same mapper
+ * (constructors are introspected once, plan is created once for each sub-range result set and is not shared
+ * through mapper's plans cache).
+ * Query SQL must have two last parameters for inclusive lower and upper key bounds, e.g.
+ * {@code select * from my_table where status = ? and id between ? and ? order by id}, bounds are appended
+ * to provided query arguments. Results may be merged in sub-ranges order (giving total key order if
+ * query is ordered by key) or in sub-ranges completion order, or may be passed to thread-safe consumer.
+ * On sub-range error other sub-ranges are cancelled. Connections are obtained in executor threads, so Spring-managed
+ * transactions of calling thread are not used. Instances are immutable and thread-safe, executor is not shut down.
+ *
+ * <pre>
+ * PartitionedQuery&lt;MyClass&gt; query = new PartitionedQuery&lt;MyClass&gt;(dataSource, mapper, executor, 8,
+ *         1, 10000000, "select * from my_table where id between ? and ? order by id");
+ * List&lt;MyClass&gt; list = query.list(true);
+ * </pre>
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class PartitionedQuery<T> {
+    private final JdbcTemplate jt;
+    private final NamedConstructorMapper<T> mapper;
+    private final ExecutorService executor;
+    private final long[] bounds;
+    private final String sql;
+    private final Object[] args;
+
+    /**
+     * Constructor
+     *
+     * @param ds data source
+     * @param mapper named constructor mapper
+     * @param executor executor to run sub-range queries in
+     * @param partitions sub-ranges count, decreased to keys count for narrow ranges
+     * @param minKey inclusive lower bound of keys range
+     * @param maxKey inclusive upper bound of keys range
+     * @param sql query SQL with two last parameters for inclusive key bounds
+     * @param args query arguments without key bounds
+     */
+    public PartitionedQuery(DataSource ds, NamedConstructorMapper<T> mapper, ExecutorService executor, int partitions,
+                            long minKey, long maxKey, String sql, Object... args) {
+        if(null == ds) throw new IllegalArgumentException("Provided data source is null");
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(null == executor) throw new IllegalArgumentException("Provided executor is null");
+        if(partitions <= 0) throw new IllegalArgumentException("Provided partitions is not positive: '" + partitions + "'");
+        if(null == sql) throw new IllegalArgumentException("Provided sql is null");
+        this.jt = new JdbcTemplate(ds);
+        this.mapper = mapper;
+        this.executor = executor;
+        this.bounds = split(minKey, maxKey, partitions);
+        this.sql = sql;
+        this.args = null != args ? args : new Object[0];
+    }
+
+    /**
+     * Splits keys range into sub-ranges with sizes differing at most by one
+     *
+     * @param minKey inclusive lower bound
+     * @param maxKey inclusive upper bound
+     * @param partitions max sub-ranges count
+     * @return sub-ranges lower bounds followed by {@code maxKey + 1} (may overflow)
+     */
+    static long[] split(long minKey, long maxKey, int partitions) {
+        long span = maxKey - minKey;
+        if(maxKey < minKey || span < 0 || Long.MAX_VALUE == span) throw new IllegalArgumentException(
+                "Invalid keys range, min: '" + minKey + "', max: '" + maxKey + "'");
+        long count = span + 1;
+        int parts = (int) Math.min(partitions, count);
+        long size = count / parts;
+        long rem = count % parts;
+        long[] res = new long[parts + 1];
+        res[0] = minKey;
+        for(int i = 0; i < parts; i++) {
+            res[i + 1] = res[i] + size + (i < rem ? 1 : 0);
+        }
+        return res;
+    }
+
+    /**
+     * @return sub-ranges count
+     */
+    public int partitions() {
+        return bounds.length - 1;
+    }
+
+    /**
+     * Executes sub-range queries and merges their results
+     *
+     * @param ordered whether to merge results in sub-ranges order, completion order is used otherwise
+     * @return mapped objects of all sub-ranges
+     */
+    public List<T> list(boolean ordered) {
+        CompletionService<List<T>> cs = new ExecutorCompletionService<List<T>>(executor);
+        List<Future<List<T>>> futures = new ArrayList<Future<List<T>>>(partitions());
+        try {
+            for(int i = 0; i < partitions(); i++) {
+                futures.add(cs.submit(new ListTask(i)));
+            }
+            List<List<T>> parts = new ArrayList<List<T>>(futures.size());
+            if(ordered) {
+                for(Future<List<T>> fu : futures) {
+                    parts.add(fu.get());
+                }
+            } else {
+                for(int i = 0; i < futures.size(); i++) {
+                    parts.add(cs.take().get());
+                }
+            }
+            int size = 0;
+            for(List<T> li : parts) {
+                size += li.size();
+            }
+            List<T> res = new ArrayList<T>(size);
+            for(List<T> li : parts) {
+                res.addAll(li);
+            }
+            return res;
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Partitioned query interrupted", e);
+        } catch(ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            for(Future<List<T>> fu : futures) {
+                fu.cancel(true);
+            }
+        }
+    }
+
+    /**
+     * Executes sub-range queries passing mapped objects to consumer, consumer is called concurrently
+     * from executor threads, objects of single sub-range are passed in result set order
+     *
+     * @param consumer thread-safe consumer
+     */
+    public void forEach(Consumer<? super T> consumer) {
+        if(null == consumer) throw new IllegalArgumentException("Provided consumer is null");
+        CompletionService<Void> cs = new ExecutorCompletionService<Void>(executor);
+        List<Future<Void>> futures = new ArrayList<Future<Void>>(partitions());
+        try {
+            for(int i = 0; i < partitions(); i++) {
+                futures.add(cs.submit(new ConsumerTask(i, consumer)));
+            }
+            for(int i = 0; i < futures.size(); i++) {
+                cs.take().get();
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Partitioned query interrupted", e);
+        } catch(ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            for(Future<Void> fu : futures) {
+                fu.cancel(true);
+            }
+        }
+    }
+
+    private Object[] args(int partition) {
+        Object[] res = new Object[args.length + 2];
+        System.arraycopy(args, 0, res, 0, args.length);
+        res[args.length] = bounds[partition];
+        res[args.length + 1] = bounds[partition + 1] - 1;
+        return res;
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if(cause instanceof RuntimeException) return (RuntimeException) cause;
+        if(cause instanceof Error) throw (Error) cause;
+        return new RuntimeException("Partitioned query error", cause);
+    }
+
+    /**
+     * Consumer of mapped objects
+     *
+     * @param <T> object type
+     */
+    public interface Consumer<T> {
+        /**
+         * Processes mapped object, may be called concurrently
+         *
+         * @param obj mapped object
+         */
+        void accept(T obj);
+    }
+
+    private class ListTask implements Callable<List<T>> {
+        private final int partition;
+
+        private ListTask(int partition) {
+            this.partition = partition;
+        }
+
+        @Override
+        public List<T> call() {
+            return jt.query(sql, args(partition), new ListExtractor());
+        }
+    }
+
+    private class ListExtractor implements ResultSetExtractor<List<T>> {
+        @Override
+        public List<T> extractData(ResultSet rs) throws SQLException {
+            RowPlan<T> plan = mapper.plan(rs);
+            List<T> res = new ArrayList<T>();
+            while(rs.next()) {
+                res.add(plan.invoke(rs));
+            }
+            return res;
+        }
+    }
+
+    private class ConsumerTask implements Callable<Void> {
+        private final int partition;
+        private final Consumer<? super T> consumer;
+
+        private ConsumerTask(int partition, Consumer<? super T> consumer) {
+            this.partition = partition;
+            this.consumer = consumer;
+        }
+
+        @Override
+        public Void call() {
+            jt.query(sql, args(partition), new NamedRowCallbackHandler<T>(mapper) {
+                @Override
+                protected void processObject(T obj) throws SQLException {
+                    consumer.accept(obj);
+                }
+            });
+            return null;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.alexkasko.springjdbc.named;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Small lock-free cache of plans keyed by result set identity, used by mappers shared between threads,
+ * so concurrent queries through one mapper keep one plan per result set instead of evicting each other's plan.
+ * Slots are probed linearly from result set identity hash, slots of collected or closed result sets are reused,
+ * if all slots are used by open result sets, plan replaces the one in home slot.
+ * Result sets are referenced weakly (see {@link BoundPlan}).
+ *
+ * @param <P> plan type
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class PlanCache<P> {
+    private static final int SIZE = 8;
+    private static final int MASK = SIZE - 1;
+
+    private final AtomicReferenceArray<BoundPlan<P>> slots = new AtomicReferenceArray<BoundPlan<P>>(SIZE);
+
+    /**
+     * @param rs result set
+     * @return cached plan for result set or null if not found
+     */
+    P get(ResultSet rs) {
+        int home = index(rs);
+        for(int i = 0; i < SIZE; i++) {
+            BoundPlan<P> bp = slots.get((home + i) & MASK);
+            // slots are never cleared, so probing stops at the first empty one
+            if(null == bp) return null;
+            if(bp.isFor(rs)) return bp.plan;
+        }
+        return null;
+    }
+
+    /**
+     * Caches plan for result set
+     *
+     * @param rs result set
+     * @param plan plan created for result set
+     */
+    void put(ResultSet rs, P plan) {
+        BoundPlan<P> created = new BoundPlan<P>(rs, plan);
+        int home = index(rs);
+        for(int i = 0; i < SIZE; i++) {
+            int ind = (home + i) & MASK;
+            BoundPlan<P> bp = slots.get(ind);
+            if((null == bp || isStale(bp)) && slots.compareAndSet(ind, bp, created)) return;
+        }
+        slots.set(home, created);
+    }
+
+    private static int index(ResultSet rs) {
+        int hash = System.identityHashCode(rs);
+        return (hash ^ (hash >>> 16)) & MASK;
+    }
+
+    private static boolean isStale(BoundPlan<?> bp) {
+        ResultSet rs = bp.get();
+        if(null == rs) return true;
+        try {
+            return rs.isClosed();
+        } catch(SQLException e) {
+            return false;
+        } catch(RuntimeException e) {
+            // unsupported by driver
+            return false;
+        } catch(AbstractMethodError e) {
+            // pre-JDBC4 driver
+            return false;
+        }
+    }
+}
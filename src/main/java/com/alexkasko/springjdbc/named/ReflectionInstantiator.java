@@ -0,0 +1,33 @@
+package com.alexkasko.springjdbc.named;
+
+import java.lang.reflect.Constructor;
+
+/**
+ * Instantiator using {@code Constructor.newInstance}, used as a fallback when constructor
+ * is not accessible for generated instantiators or bytecode generation is not available.
+ *
+ * @param <T> object type to instantiate
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class ReflectionInstantiator<T> implements Instantiator<T> {
+    private final Constructor<T> constructor;
+
+    /**
+     * Constructor
+     *
+     * @param constructor constructor to invoke
+     */
+    ReflectionInstantiator(Constructor<T> constructor) {
+        this.constructor = constructor;
+        if(!this.constructor.isAccessible()) constructor.setAccessible(true);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T instantiate(Object[] args) throws Exception {
+        return constructor.newInstance(args);
+    }
+}
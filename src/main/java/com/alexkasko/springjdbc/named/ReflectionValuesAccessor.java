@@ -0,0 +1,43 @@
+package com.alexkasko.springjdbc.named;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+
+/**
+ * Values accessor using {@code Field.get} and {@code Method.invoke} on fields and accessors
+ * looked up once on creation, used as a fallback when members are not accessible
+ * for generated accessors or bytecode generation is not available.
+ *
+ * @param <T> object type to read values from
+ * @author alexkasko
+ * Date: 10/16/26
+ */
+class ReflectionValuesAccessor<T> implements ValuesAccessor<T> {
+    private final Member[] members;
+
+    /**
+     * Constructor
+     *
+     * @param members fields or no-arg methods to read values with
+     */
+    ReflectionValuesAccessor(Member[] members) {
+        this.members = members;
+        for(Member me : members) {
+            AccessibleObject ao = (AccessibleObject) me;
+            if(!ao.isAccessible()) ao.setAccessible(true);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void values(T obj, Object[] values) throws Exception {
+        for(int i = 0; i < members.length; i++) {
+            Member me = members[i];
+            values[i] = me instanceof Field ? ((Field) me).get(obj) : ((Method) me).invoke(obj);
+        }
+    }
+}
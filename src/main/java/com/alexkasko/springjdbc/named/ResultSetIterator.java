@@ -0,0 +1,143 @@
+package com.alexkasko.springjdbc.named;
+
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Iterator over query results, maps rows lazily one at a time without collecting them into list.
+ * Owns connection, statement and result set, they are released when iteration is exhausted,
+ * on mapping error or on {@link #close()} call, so iterator must be closed in {@code finally} block
+ * if it may be not exhausted. Connection is obtained through {@code DataSourceUtils} so iterator
+ * participates in Spring-managed transactions. Some drivers (e.g. PostgreSQL) use fetch size only
+ * inside transaction. Stream and {@link LobHandle} constructor arguments are not supported, they are invalid
+ * after iterator advances, such mappers are rejected with {@code IllegalArgumentException} on query execution.
+ * Not thread-safe.
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper#iterator(javax.sql.DataSource, int, String, Object...)
+ */
+public class ResultSetIterator<T> implements Iterator<T>, Closeable {
+    private final DataSource ds;
+    private final NamedConstructorMapper<T> mapper;
+    private final String sql;
+    private final Object[] args;
+    private final SQLExceptionTranslator translator;
+    private Connection con;
+    private PreparedStatement ps;
+    private ResultSet rs;
+    private RowPlan<T> plan;
+    private boolean fetched = false;
+    private boolean closed = false;
+
+    /**
+     * Constructor, executes query
+     *
+     * @param ds data source
+     * @param mapper named constructor mapper
+     * @param fetchSize fetch size hint for driver, not applied if {@code 0}
+     * @param sql query SQL
+     * @param args query arguments
+     */
+    ResultSetIterator(DataSource ds, NamedConstructorMapper<T> mapper, int fetchSize, String sql, Object... args) {
+        if(null == ds) throw new IllegalArgumentException("Provided data source is null");
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(null == sql) throw new IllegalArgumentException("Provided sql is null");
+        if(fetchSize < 0) throw new IllegalArgumentException("Provided fetch size is negative: '" + fetchSize + "'");
+        this.ds = ds;
+        this.mapper = mapper;
+        this.sql = sql;
+        this.args = null != args ? args : new Object[0];
+        this.translator = new SQLErrorCodeSQLExceptionTranslator(ds);
+        this.con = DataSourceUtils.getConnection(ds);
+        try {
+            ps = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if(fetchSize > 0) ps.setFetchSize(fetchSize);
+            for(int i = 0; i < this.args.length; i++) {
+                StatementCreatorUtils.setParameterValue(ps, i + 1, SqlTypeValue.TYPE_UNKNOWN, this.args[i]);
+            }
+            rs = ps.executeQuery();
+            plan = mapper.detachedPlan(rs);
+        } catch(SQLException e) {
+            close();
+            throw translator.translate("ResultSetIterator", sql, e);
+        } catch(RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if(closed) return false;
+        if(fetched) return true;
+        try {
+            fetched = rs.next();
+        } catch(SQLException e) {
+            close();
+            throw translator.translate("ResultSetIterator", sql, e);
+        }
+        if(!fetched) close();
+        return fetched;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public T next() {
+        if(!hasNext()) throw new NoSuchElementException("Result set is exhausted or closed, sql: '" + sql + "'");
+        fetched = false;
+        try {
+            return plan.invoke(rs);
+        } catch(SQLException e) {
+            close();
+            throw translator.translate("ResultSetIterator", sql, e);
+        } catch(RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Unsupported
+     */
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Releases result set, statement and connection, may be called multiple times
+     */
+    @Override
+    public void close() {
+        if(closed) return;
+        closed = true;
+        fetched = false;
+        JdbcUtils.closeResultSet(rs);
+        JdbcUtils.closeStatement(ps);
+        StatementCreatorUtils.cleanupParameters(args);
+        DataSourceUtils.releaseConnection(con, ds);
+        rs = null;
+        ps = null;
+        con = null;
+    }
+}
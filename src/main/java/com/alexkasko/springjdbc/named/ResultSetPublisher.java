@@ -0,0 +1,251 @@
+package com.alexkasko.springjdbc.named;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.SQLErrorCodeSQLExceptionTranslator;
+import org.springframework.jdbc.support.SQLExceptionTranslator;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Reactive Streams {@code Publisher} of query results mapped with named constructor mapper.
+ * Query is executed separately for each subscriber on first positive demand, rows are read
+ * and mapped only as requested by subscriber, so slow subscribers don't cause buffering of result set.
+ * All JDBC calls and subscriber signals are executed serially in provided executor (e.g. bounded thread pool
+ * or virtual threads executor on newer JVMs), executor is not shut down by publisher. Running statement is
+ * cancelled on subscription cancel, connection is released on completion, error or cancel.
+ * Connection is obtained through {@code DataSourceUtils} in executor thread, so Spring-managed transactions
+ * of subscribing thread are not used. Requires {@code org.reactivestreams:reactive-streams} dependency.
+ * Stream and {@link LobHandle} constructor arguments are not supported, they are invalid after row is read,
+ * such mappers fail subscription with {@code IllegalArgumentException} before reading rows.
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+public class ResultSetPublisher<T> implements Publisher<T> {
+    private final DataSource ds;
+    private final NamedConstructorMapper<T> mapper;
+    private final Executor executor;
+    private final int fetchSize;
+    private final String sql;
+    private final Object[] args;
+    private final SQLExceptionTranslator translator;
+
+    /**
+     * Constructor
+     *
+     * @param ds data source
+     * @param mapper named constructor mapper
+     * @param executor executor to run JDBC calls and subscriber signals in
+     * @param fetchSize fetch size hint for driver, not applied if {@code 0}
+     * @param sql query SQL
+     * @param args query arguments
+     */
+    public ResultSetPublisher(DataSource ds, NamedConstructorMapper<T> mapper, Executor executor, int fetchSize,
+                              String sql, Object... args) {
+        if(null == ds) throw new IllegalArgumentException("Provided data source is null");
+        if(null == mapper) throw new IllegalArgumentException("Provided mapper is null");
+        if(null == executor) throw new IllegalArgumentException("Provided executor is null");
+        if(fetchSize < 0) throw new IllegalArgumentException("Provided fetch size is negative: '" + fetchSize + "'");
+        if(null == sql) throw new IllegalArgumentException("Provided sql is null");
+        this.ds = ds;
+        this.mapper = mapper;
+        this.executor = executor;
+        this.fetchSize = fetchSize;
+        this.sql = sql;
+        this.args = null != args ? args : new Object[0];
+        this.translator = new SQLErrorCodeSQLExceptionTranslator(ds);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void subscribe(Subscriber<? super T> subscriber) {
+        if(null == subscriber) throw new NullPointerException("Provided subscriber is null");
+        new QuerySubscription(subscriber).schedule();
+    }
+
+    /**
+     * Subscription state, drained serially in executor: only one thread may run {@link #run()} at a time,
+     * signals from other threads increment work counter and are processed by running thread
+     */
+    private class QuerySubscription implements Subscription, Runnable {
+        private final Subscriber<? super T> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile IllegalArgumentException invalidRequest;
+        private volatile PreparedStatement ps;
+        // accessed only in drain
+        private boolean subscribed = false;
+        private boolean done = false;
+        private Connection con;
+        private ResultSet rs;
+        private RowPlan<T> plan;
+
+        private QuerySubscription(Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                invalidRequest = new IllegalArgumentException("Requested rows count is not positive: '" + n + "'");
+            } else {
+                for(;;) {
+                    long cur = requested.get();
+                    long upd = cur + n;
+                    if(upd < 0) upd = Long.MAX_VALUE;
+                    if(requested.compareAndSet(cur, upd)) break;
+                }
+            }
+            schedule();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void cancel() {
+            cancelled = true;
+            PreparedStatement st = ps;
+            if(null != st) {
+                try {
+                    st.cancel();
+                } catch(SQLException e) {
+                    // statement may be already closed
+                }
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            if(0 != wip.getAndIncrement()) return;
+            try {
+                executor.execute(this);
+            } catch(RejectedExecutionException e) {
+                // work counter was zero, so no drain is running and this thread owns drain state,
+                // counter is left non-zero, so no more drains will be scheduled
+                if(done) return;
+                done = true;
+                close();
+                if(!subscribed) {
+                    subscribed = true;
+                    subscriber.onSubscribe(this);
+                }
+                if(!cancelled) subscriber.onError(e);
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void run() {
+            int missed = 1;
+            for(;;) {
+                drain();
+                missed = wip.addAndGet(-missed);
+                if(0 == missed) break;
+            }
+        }
+
+        private void drain() {
+            if(done) return;
+            if(!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            if(cancelled) {
+                done = true;
+                close();
+                return;
+            }
+            if(null != invalidRequest) {
+                fail(invalidRequest);
+                return;
+            }
+            long req = requested.get();
+            if(0 == req) return;
+            try {
+                if(null == rs) execute();
+                long emitted = 0;
+                while(emitted != req) {
+                    if(cancelled) {
+                        done = true;
+                        close();
+                        return;
+                    }
+                    if(!rs.next()) {
+                        complete();
+                        return;
+                    }
+                    T obj = plan.invoke(rs);
+                    subscriber.onNext(obj);
+                    emitted += 1;
+                }
+                if(Long.MAX_VALUE != req) requested.addAndGet(-emitted);
+            } catch(SQLException e) {
+                fail(translator.translate("ResultSetPublisher", sql, e));
+            } catch(RuntimeException e) {
+                fail(e);
+            }
+        }
+
+        private void execute() throws SQLException {
+            con = DataSourceUtils.getConnection(ds);
+            PreparedStatement st = con.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps = st;
+            if(fetchSize > 0) st.setFetchSize(fetchSize);
+            for(int i = 0; i < args.length; i++) {
+                StatementCreatorUtils.setParameterValue(st, i + 1, SqlTypeValue.TYPE_UNKNOWN, args[i]);
+            }
+            rs = st.executeQuery();
+            plan = mapper.detachedPlan(rs);
+        }
+
+        private void complete() {
+            done = true;
+            close();
+            subscriber.onComplete();
+        }
+
+        private void fail(RuntimeException e) {
+            done = true;
+            close();
+            // errors caused by cancel are not signalled
+            if(!cancelled) subscriber.onError(e);
+        }
+
+        private void close() {
+            JdbcUtils.closeResultSet(rs);
+            JdbcUtils.closeStatement(ps);
+            if(null != con) {
+                StatementCreatorUtils.cleanupParameters(args);
+                DataSourceUtils.releaseConnection(con, ds);
+            }
+            rs = null;
+            ps = null;
+            con = null;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Row data read from result set: chosen named constructor and its ordered arguments
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see RowPlan#read(java.sql.ResultSet)
+ */
+class RowData<T> {
+    private final NamedConstructor<? extends T> constructor;
+    private final Object[] args;
+
+    /**
+     * Constructor
+     *
+     * @param constructor chosen constructor
+     * @param args ordered arguments
+     */
+    RowData(NamedConstructor<? extends T> constructor, Object[] args) {
+        this.constructor = constructor;
+        this.args = args;
+    }
+
+    /**
+     * Sets argument supplied by caller
+     *
+     * @param index argument index
+     * @param value argument value
+     */
+    void setArg(int index, Object value) {
+        args[index] = value;
+    }
+
+    /**
+     * Instantiates object from row data
+     *
+     * @return instantiated object
+     */
+    T invoke() {
+        return constructor.invoke(args);
+    }
+}
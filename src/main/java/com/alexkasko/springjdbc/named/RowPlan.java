@@ -0,0 +1,53 @@
+package com.alexkasko.springjdbc.named;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Mapping plan created by mapper for single result set. Plans are not thread-safe
+ * and must be used only with the result set they were created for.
+ *
+ * @param <T> object type to map data row to
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see NamedConstructorMapper
+ */
+interface RowPlan<T> {
+
+    /**
+     * Reads current row of result set and instantiates object from it
+     *
+     * @param rs result set this plan was created for
+     * @return instantiated object
+     * @throws SQLException on column value access error
+     */
+    T invoke(ResultSet rs) throws SQLException;
+
+    /**
+     * Reads current row of result set into chosen constructor and its arguments without
+     * instantiating object, so instantiation may be done later in other thread
+     *
+     * @param rs result set this plan was created for
+     * @return row data
+     * @throws SQLException on column value access error
+     */
+    RowData<T> read(ResultSet rs) throws SQLException;
+
+    /**
+     * Resolves constructor plan for current row of result set without reading arguments,
+     * used to access arguments without instantiating object
+     *
+     * @param rs result set this plan was created for
+     * @return constructor plan for current row
+     * @throws SQLException on column value access error
+     */
+    NamedConstructorPlan<? extends T> resolve(ResultSet rs) throws SQLException;
+
+    /**
+     * Checks whether this plan may read arguments valid only while row is current, such plans
+     * cannot be used when mapped objects outlive current row (other threads, iterators, caches)
+     *
+     * @return whether this plan may read streams or LOB handles
+     */
+    boolean isStreaming();
+}
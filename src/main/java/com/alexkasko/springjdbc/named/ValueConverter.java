@@ -0,0 +1,23 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Converter for column values not compatible with constructor parameter types, registered
+ * in {@link ConverterRegistry}. Converters are resolved once per result set for each argument and
+ * are called for not null values only. Implementations must be thread-safe.
+ *
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see ConverterRegistry
+ */
+public interface ValueConverter {
+
+    /**
+     * Converts column value
+     *
+     * @param value column value, not null
+     * @param targetType constructor parameter type (primitive types are boxed)
+     * @return converted value
+     * @throws IllegalArgumentException if value cannot be converted
+     */
+    Object convert(Object value, Class<?> targetType);
+}
@@ -0,0 +1,24 @@
+package com.alexkasko.springjdbc.named;
+
+/**
+ * Strategy for reading named values from object fields or accessors. Implementations are created
+ * by the library once per {@link ParameterExtractor}, this interface is public only to be accessible
+ * from runtime generated classes.
+ *
+ * @param <T> object type to read values from
+ * @author alexkasko
+ * Date: 10/16/26
+ * @see ReflectionValuesAccessor
+ * @see GeneratedValuesAccessor
+ */
+public interface ValuesAccessor<T> {
+
+    /**
+     * Reads values from object into provided array
+     *
+     * @param obj object to read values from
+     * @param values array to put values into in extractor names order
+     * @throws Exception on value access error
+     */
+    void values(T obj, Object[] values) throws Exception;
+}
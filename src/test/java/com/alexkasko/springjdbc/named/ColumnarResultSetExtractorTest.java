@@ -0,0 +1,76 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ColumnarResultSetExtractorTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:columnar_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table columnar_table(id bigint not null, code varchar(10), amount decimal(10, 2)," +
+                " flag boolean, weight double, cnt int)");
+        for(int i = 0; i < 100; i++) {
+            jt.update("insert into columnar_table values(?, ?, ?, ?, ?, ?)", i, 0 == i % 10 ? null : "code" + (i % 3),
+                    new BigDecimal(i), 0 == i % 2, i / 2.0, 0 == i % 7 ? null : i);
+        }
+    }
+
+    private static class Row {
+        private final long id;
+        private final String code;
+        private final BigDecimal amount;
+        private final boolean flag;
+        private final double weight;
+        private final Integer cnt;
+
+        private Row(@Named("id") long id, @Named("code") String code, @Named("amount") BigDecimal amount,
+                    @Named("flag") boolean flag, @Named("weight") double weight, @Named("cnt") Integer cnt) {
+            this.id = id;
+            this.code = code;
+            this.amount = amount;
+            this.flag = flag;
+            this.weight = weight;
+            this.cnt = cnt;
+        }
+    }
+
+    @Test
+    public void testColumnar() {
+        List<Row> list = jt.query("select * from columnar_table order by id", ColumnarResultSetExtractor.forClass(Row.class));
+        assertEquals("Size fail", 100, list.size());
+        Row r0 = list.get(0);
+        assertEquals("Data fail", 0, r0.id);
+        assertNull("Data fail", r0.code);
+        assertNull("Data fail", r0.cnt);
+        assertTrue("Data fail", r0.flag);
+        Row r43 = list.get(43);
+        assertEquals("Data fail", 43, r43.id);
+        assertEquals("Data fail", "code1", r43.code);
+        assertEquals("Data fail", new BigDecimal("43.00"), r43.amount);
+        assertFalse("Data fail", r43.flag);
+        assertEquals("Data fail", 21.5, r43.weight, 0.001);
+        assertEquals("Data fail", 43, (int) r43.cnt);
+        assertNotSame("Cache fail", list.get(43), list.get(43));
+    }
+
+    @Test
+    public void testSoftCache() {
+        List<Row> list = jt.query("select * from columnar_table order by id", ColumnarResultSetExtractor.forClass(Row.class, true));
+        assertSame("Cache fail", list.get(42), list.get(42));
+    }
+}
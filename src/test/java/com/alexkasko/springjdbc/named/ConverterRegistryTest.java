@@ -0,0 +1,194 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ConverterRegistryTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:converter_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table conv_table(id bigint not null, state varchar(255), flag varchar(1), price decimal(10, 2))");
+        jt.update("insert into conv_table(id, state, flag, price) values(?, ?, ?, ?)", 1, "ACTIVE", "y", new BigDecimal("1.50"));
+        jt.update("insert into conv_table(id, state, flag, price) values(?, ?, ?, ?)", 2, "CLOSED", "n", new BigDecimal("42.00"));
+        jt.update("insert into conv_table(id, state, flag, price) values(?, ?, ?, ?)", 3, "UNKNOWN", "x", null);
+    }
+
+    @Test
+    public void testDefaults() {
+        List<Converted> list = jt.query("select id, state, flag from conv_table where id < 3 order by id",
+                NamedConstructorMapper.forClass(Converted.class));
+        assertEquals("Size fail", 2, list.size());
+        assertEquals("Number fail", BigInteger.valueOf(1), list.get(0).id);
+        assertEquals("Enum fail", State.ACTIVE, list.get(0).state);
+        assertEquals("Char fail", 'y', list.get(0).flag);
+        assertEquals("Enum fail", State.CLOSED, list.get(1).state);
+        assertEquals("Char fail", 'n', list.get(1).flag);
+    }
+
+    @Test
+    public void testCustom() {
+        ConverterRegistry converters = ConverterRegistry.withDefaults()
+                .register(BigDecimal.class, Money.class, new ValueConverter() {
+                    @Override
+                    public Object convert(Object value, Class<?> targetType) {
+                        return new Money(((BigDecimal) value).movePointRight(2).longValue());
+                    }
+                });
+        List<Priced> list = jt.query("select id, price from conv_table order by id",
+                NamedConstructorMapper.forClass(Priced.class).withConverters(converters));
+        assertEquals("Size fail", 3, list.size());
+        assertEquals("Custom fail", 150, list.get(0).price.cents);
+        assertEquals("Custom fail", 4200, list.get(1).price.cents);
+        assertEquals("Null fail", null, list.get(2).price);
+    }
+
+    @Test
+    public void testTypedTarget() {
+        ConverterRegistry converters = ConverterRegistry.withDefaults()
+                .register(String.class, Boolean.class, new ValueConverter() {
+                    @Override
+                    public Object convert(Object value, Class<?> targetType) {
+                        return "y".equals(value);
+                    }
+                });
+        List<Flagged> list = jt.query("select id, flag from conv_table order by id",
+                NamedConstructorMapper.forClass(Flagged.class).withConverters(converters));
+        assertEquals("Size fail", 3, list.size());
+        assertTrue("Custom fail", list.get(0).flag);
+        assertFalse("Custom fail", list.get(1).flag);
+        assertFalse("Custom fail", list.get(2).flag);
+    }
+
+    @Test
+    public void testNumberToBoolean() {
+        String sql = "select id, case when flag = 'y' then 1 else 0 end as flag from conv_table order by id";
+        List<Flagged> list = jt.query(sql, NamedConstructorMapper.forClass(Flagged.class));
+        assertTrue("Default fail", list.get(0).flag);
+        assertFalse("Default fail", list.get(1).flag);
+        List<Flagged> columnar = jt.query(sql, ColumnarResultSetExtractor.forClass(Flagged.class));
+        assertTrue("Columnar fail", columnar.get(0).flag);
+        assertFalse("Columnar fail", columnar.get(1).flag);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingConverter() {
+        jt.query("select id, price from conv_table order by id", NamedConstructorMapper.forClass(Priced.class));
+    }
+
+    @Test
+    public void testConversionError() {
+        try {
+            jt.query("select id, state, flag from conv_table order by id",
+                    NamedConstructorMapper.forClass(Converted.class));
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getMessage().startsWith("Conversion error"));
+            return;
+        }
+        throw new AssertionError("Conversion error expected");
+    }
+
+    @Test
+    public void testDecimalToIntegral() {
+        List<Counted> list = jt.query("select id, price as count from conv_table where id = 2",
+                NamedConstructorMapper.forClass(Counted.class));
+        assertEquals("Exact fail", 42, list.get(0).count);
+        try {
+            jt.query("select id, price as count from conv_table where id = 1", NamedConstructorMapper.forClass(Counted.class));
+            fail("Fraction fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getCause().getMessage().contains("fractional"));
+        }
+        try {
+            jt.query("select id, price as count from conv_table where id = 2",
+                    NamedConstructorMapper.forClass(Counted.class).withConverters(new ConverterRegistry()));
+            fail("Plan check fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getMessage().contains("count"));
+        }
+    }
+
+    @Test
+    public void testIntegralOverflow() {
+        List<Counted> list = jt.query("select id, id * 1000 as count from conv_table where id = 2",
+                NamedConstructorMapper.forClass(Counted.class));
+        assertEquals("Narrow fail", 2000, list.get(0).count);
+        try {
+            jt.query("select id, id * 4000000000 as count from conv_table where id = 2",
+                    NamedConstructorMapper.forClass(Counted.class));
+            fail("Overflow fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getCause().getMessage().contains("overflow"));
+        }
+    }
+
+    enum State {ACTIVE, CLOSED}
+
+    static class Converted {
+        private final BigInteger id;
+        private final State state;
+        private final char flag;
+
+        Converted(@Named("id") BigInteger id, @Named("state") State state, @Named("flag") char flag) {
+            this.id = id;
+            this.state = state;
+            this.flag = flag;
+        }
+    }
+
+    static class Flagged {
+        private final long id;
+        private final boolean flag;
+
+        Flagged(@Named("id") long id, @Named("flag") boolean flag) {
+            this.id = id;
+            this.flag = flag;
+        }
+    }
+
+    static class Counted {
+        private final long id;
+        private final int count;
+
+        Counted(@Named("id") long id, @Named("count") int count) {
+            this.id = id;
+            this.count = count;
+        }
+    }
+
+    static class Money {
+        private final long cents;
+
+        Money(long cents) {
+            this.cents = cents;
+        }
+    }
+
+    static class Priced {
+        private final long id;
+        private final Money price;
+
+        Priced(@Named("id") long id, @Named("price") Money price) {
+            this.id = id;
+            this.price = price;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class GeneratedInstantiatorTest {
+
+    public static class Public {
+        private final long id;
+        private final String foo;
+
+        public Public(long id, String foo) {
+            this.id = id;
+            this.foo = foo;
+        }
+    }
+
+    private static class Private {
+        private Private(long id) {
+        }
+    }
+
+    @Test
+    public void testGenerated() throws Exception {
+        Instantiator<Public> inst = GeneratedInstantiator.forConstructor(Public.class.getConstructor(long.class, String.class));
+        assertTrue("Strategy fail", inst instanceof GeneratedInstantiator);
+        Public exact = inst.instantiate(new Object[]{42L, "foo"});
+        assertEquals("Data fail", 42, exact.id);
+        assertEquals("Data fail", "foo", exact.foo);
+        // widening is done by reflective fallback
+        Public widened = inst.instantiate(new Object[]{43, null});
+        assertEquals("Data fail", 43, widened.id);
+        assertNull("Data fail", widened.foo);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMismatch() throws Exception {
+        Instantiator<Public> inst = GeneratedInstantiator.forConstructor(Public.class.getConstructor(long.class, String.class));
+        inst.instantiate(new Object[]{null, "foo"});
+    }
+
+    @Test
+    public void testFallback() throws Exception {
+        Instantiator<Private> inst = GeneratedInstantiator.forConstructor(Private.class.getDeclaredConstructor(long.class));
+        assertTrue("Strategy fail", inst instanceof ReflectionInstantiator);
+        assertNotNull("Creation fail", inst.instantiate(new Object[]{42L}));
+    }
+}
@@ -0,0 +1,182 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.support.lob.DefaultLobHandler;
+import org.springframework.util.FileCopyUtils;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import javax.inject.Named;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class LobArgumentsTest {
+    private static final DriverManagerDataSource ds;
+    private static final JdbcTemplate jt;
+
+    static {
+        ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:lob_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table lob_table(id int not null, data blob, text clob)");
+        byte[] data = new byte[100000];
+        Arrays.fill(data, (byte) 42);
+        char[] text = new char[50000];
+        Arrays.fill(text, 'a');
+        jt.update("insert into lob_table(id, data, text) values(?, ?, ?)", 1, data, new String(text));
+        jt.update("insert into lob_table(id, data, text) values(?, ?, ?)", 2, null, "foo");
+    }
+
+    @Test
+    public void testStreams() {
+        List<Streamed> list = jt.query("select * from lob_table order by id",
+                NamedConstructorMapper.forClass(Streamed.class).withLobHandler(new DefaultLobHandler()));
+        assertEquals("Size fail", 2, list.size());
+        assertEquals("Stream fail", 100000, list.get(0).dataLength);
+        assertEquals("Reader fail", 50000, list.get(0).textLength);
+        assertEquals("Null fail", -1, list.get(1).dataLength);
+        assertEquals("Reader fail", 3, list.get(1).textLength);
+    }
+
+    @Test
+    public void testCallback() {
+        final List<String> res = new ArrayList<String>();
+        jt.query("select id, text from lob_table order by id", new NamedRowCallbackHandler<Handled>(
+                NamedConstructorMapper.forClass(Handled.class)) {
+            @Override
+            protected void processObject(Handled obj) throws SQLException {
+                res.add(obj.id + ":" + obj.text.getString().length());
+            }
+        });
+        assertEquals("Callback fail", Arrays.asList("1:50000", "2:3"), res);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testColumnar() {
+        jt.query("select id, text from lob_table", ColumnarResultSetExtractor.forClass(Handled.class));
+    }
+
+    @Test
+    public void testParallel() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            jt.query("select id, text from lob_table", new ParallelResultSetExtractor<Handled>(
+                    NamedConstructorMapper.forClass(Handled.class), executor));
+            fail("Parallel fail");
+        } catch(IllegalArgumentException e) {
+            // expected
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelSubclasses() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        NamedConstructorMapper<Object> mapper = NamedConstructorMapper.builder("id")
+                .addSubclass(1, Handled.class)
+                .addSubclass(2, Plain.class)
+                .build();
+        try {
+            jt.query("select id, text from lob_table", new ParallelResultSetExtractor<Object>(mapper, executor));
+            fail("Subclasses fail");
+        } catch(IllegalArgumentException e) {
+            // expected
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIterator() {
+        NamedConstructorMapper.forClass(Handled.class).iterator(ds, "select id, text from lob_table");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testQueryCache() {
+        new NamedQueryCache(ds, 100, 0).query(NamedConstructorMapper.forClass(Handled.class),
+                "select id, text from lob_table");
+    }
+
+    @Test
+    public void testPublisher() {
+        final AtomicReference<Throwable> error = new AtomicReference<Throwable>();
+        final AtomicInteger received = new AtomicInteger();
+        Executor direct = new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        };
+        new ResultSetPublisher<Handled>(ds, NamedConstructorMapper.forClass(Handled.class), direct, 0,
+                "select id, text from lob_table").subscribe(new Subscriber<Handled>() {
+            @Override
+            public void onSubscribe(Subscription s) {
+                s.request(10);
+            }
+
+            @Override
+            public void onNext(Handled handled) {
+                received.incrementAndGet();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                error.set(t);
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertEquals("Rows fail", 0, received.get());
+        assertTrue("Error fail", error.get() instanceof IllegalArgumentException);
+    }
+
+    private static class Streamed {
+        private final int dataLength;
+        private final int textLength;
+
+        private Streamed(@Named("data") InputStream data, @Named("text") Reader text) throws IOException {
+            this.dataLength = null != data ? FileCopyUtils.copyToByteArray(data).length : -1;
+            this.textLength = FileCopyUtils.copyToString(text).length();
+        }
+    }
+
+    private static class Plain {
+        private Plain(@Named("id") int id) {
+        }
+    }
+
+    private static class Handled {
+        private final int id;
+        private final LobHandle text;
+
+        private Handled(@Named("id") int id, @Named("text") LobHandle text) {
+            this.id = id;
+            this.text = text;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class LongKeyedExtractorsTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:long_keyed_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table keyed_table(id int, parent_id bigint, name varchar(255))");
+        jt.update("insert into keyed_table(id, parent_id, name) values(1, 10, 'foo')");
+        jt.update("insert into keyed_table(id, parent_id, name) values(2, 20, 'bar')");
+        jt.update("insert into keyed_table(id, parent_id, name) values(3, 10, 'baz')");
+        jt.update("insert into keyed_table(id, parent_id, name) values(-4, 10, 'boo')");
+    }
+
+    @Test
+    public void testMap() {
+        LongKeyedMap<Child> map = jt.query("select id, parent_id, name from keyed_table",
+                new LongKeyedResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "ID"));
+        assertEquals("Size fail", 4, map.size());
+        assertEquals("Get fail", "bar", map.get(2).name);
+        assertEquals("Negative fail", "boo", map.get(-4).name);
+        assertNull("Absent fail", map.get(5));
+        assertTrue("Contains fail", map.containsKey(3));
+        assertFalse("Contains fail", map.containsKey(0));
+        long[] keys = map.keys();
+        Arrays.sort(keys);
+        assertArrayEquals("Keys fail", new long[]{-4, 1, 2, 3}, keys);
+    }
+
+    @Test
+    public void testGrowth() {
+        LongKeyedMap<Range> map = jt.query("select x as id from system_range(1, 100000)",
+                new LongKeyedResultSetExtractor<Range>(NamedConstructorMapper.forClass(Range.class), "id"));
+        assertEquals("Size fail", 100000, map.size());
+        for(long i = 1; i <= 100000; i++) {
+            assertEquals("Get fail", i, map.get(i).id);
+        }
+        assertNull("Absent fail", map.get(100001));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDuplicate() {
+        jt.query("select id, parent_id, name from keyed_table",
+                new LongKeyedResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "parent_id"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullKey() {
+        jt.query("select id, null as parent_id, name from keyed_table",
+                new LongKeyedResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "parent_id"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAbsentKey() {
+        jt.query("select id, parent_id, name from keyed_table",
+                new LongKeyedResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "fail"));
+    }
+
+    @Test
+    public void testGroups() {
+        LongKeyedGroups<Child> groups = jt.query("select id, parent_id, name from keyed_table order by id desc",
+                new LongGroupingResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "parent_id"));
+        assertEquals("Size fail", 2, groups.size());
+        assertEquals("Values fail", 4, groups.valuesCount());
+        assertEquals("Count fail", 3, groups.count(10));
+        assertEquals("Count fail", 0, groups.count(30));
+        List<Child> list = groups.get(10);
+        assertEquals("Group fail", 3, list.size());
+        assertEquals("Order fail", "baz", list.get(0).name);
+        assertEquals("Order fail", "foo", list.get(1).name);
+        assertEquals("Order fail", "boo", list.get(2).name);
+        assertEquals("Position fail", "bar", groups.get(20, 0).name);
+        assertTrue("Absent fail", groups.get(30).isEmpty());
+        assertTrue("Contains fail", groups.containsKey(20));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testGroupBounds() {
+        LongKeyedGroups<Child> groups = jt.query("select id, parent_id, name from keyed_table",
+                new LongGroupingResultSetExtractor<Child>(NamedConstructorMapper.forClass(Child.class), "parent_id"));
+        groups.get(20, 1);
+    }
+
+    @Test
+    public void testGroupsGrowth() {
+        LongKeyedGroups<Range> groups = jt.query("select x as id, mod(x, 1000) as parent_id from system_range(1, 100000)",
+                new LongGroupingResultSetExtractor<Range>(NamedConstructorMapper.forClass(Range.class), "parent_id"));
+        assertEquals("Size fail", 1000, groups.size());
+        for(long i = 0; i < 1000; i++) {
+            assertEquals("Count fail", 100, groups.count(i));
+            long prev = 0;
+            for(Range ra : groups.get(i)) {
+                assertEquals("Group fail", i, ra.id % 1000);
+                assertTrue("Order fail", ra.id > prev);
+                prev = ra.id;
+            }
+        }
+    }
+
+    private static class Child {
+        private final int id;
+        private final String name;
+
+        private Child(@Named("id") int id, @Named("name") String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class Range {
+        private final long id;
+
+        private Range(@Named("id") long id) {
+            this.id = id;
+        }
+    }
+}
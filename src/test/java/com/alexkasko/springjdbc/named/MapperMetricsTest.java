@@ -0,0 +1,157 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class MapperMetricsTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:metrics_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table metrics_table(id int not null, foo varchar(10))");
+        for(int i = 0; i < 10; i++) {
+            jt.update("insert into metrics_table(id, foo) values(?, ?)", i, "foo" + i);
+        }
+    }
+
+    @Test
+    public void testMetrics() {
+        MapperMetrics metrics = new MapperMetrics(4);
+        NamedConstructorMapper<Row> mapper = NamedConstructorMapper.forClass(Row.class).withListener(metrics);
+        List<Row> list = jt.query("select id, foo from metrics_table", mapper);
+        assertEquals("Size fail", 10, list.size());
+        jt.query("select id from metrics_table where id < 3", mapper);
+        assertEquals("Class fail", 13L, (long) metrics.getRowsByClass().get(Row.class.getName()));
+        Map<String, Long> constructors = metrics.getRowsByConstructor();
+        assertEquals("Constructor fail", 10L, (long) constructors.get(Row.class.getName() + "(id, foo)"));
+        assertEquals("Constructor fail", 3L, (long) constructors.get(Row.class.getName() + "(id)"));
+        // rows 0, 4, 8 of the first result set
+        assertEquals("Sampling fail", 3L, sum(metrics.getLatencyHistograms().get(Row.class.getName() + "(id, foo)")));
+        assertEquals("Sampling fail", 1L, sum(metrics.getLatencyHistograms().get(Row.class.getName() + "(id)")));
+        metrics.reset();
+        assertTrue("Reset fail", metrics.getRowsByClass().isEmpty());
+    }
+
+    @Test
+    public void testFailures() {
+        MapperMetrics metrics = new MapperMetrics();
+        NamedConstructorMapper<Failing> mapper = NamedConstructorMapper.forClass(Failing.class).withListener(metrics);
+        try {
+            jt.query("select id from metrics_table where id = 1", mapper);
+            fail();
+        } catch(RuntimeException e) {
+            // expected
+        }
+        assertEquals("Failure fail", 1L, (long) metrics.getFailuresByCause().get(IllegalStateException.class.getName()));
+        assertTrue("Rows fail", metrics.getRowsByClass().isEmpty());
+    }
+
+    @Test
+    public void testPlanFailures() {
+        MapperMetrics metrics = new MapperMetrics();
+        try {
+            jt.query("select foo from metrics_table", NamedConstructorMapper.forClass(Row.class).withListener(metrics));
+            fail();
+        } catch(IllegalAccessError e) {
+            // expected
+        }
+        try {
+            jt.query("select id, foo from metrics_table", NamedConstructorMapper.forClass(Mismatch.class).withListener(metrics));
+            fail();
+        } catch(IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals("Constructor fail", 1L, (long) metrics.getFailuresByCause().get(IllegalAccessError.class.getName()));
+        assertEquals("Type fail", 1L, (long) metrics.getFailuresByCause().get(IllegalArgumentException.class.getName()));
+    }
+
+    @Test
+    public void testDiscriminatorFailures() {
+        MapperMetrics metrics = new MapperMetrics();
+        NamedConstructorMapper<Object> mapper = NamedConstructorMapper.builder("foo")
+                .addSubclass("foo1", Row.class)
+                .build()
+                .withListener(metrics);
+        try {
+            jt.query("select id, foo from metrics_table where id = 2", mapper);
+            fail();
+        } catch(IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            jt.query("select id, cast(null as varchar) as foo from metrics_table where id = 1", mapper);
+            fail();
+        } catch(IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            jt.query("select id from metrics_table where id = 1", mapper);
+            fail();
+        } catch(IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals("Failure fail", 3L, (long) metrics.getFailuresByCause().get(IllegalArgumentException.class.getName()));
+        jt.query("select id, foo from metrics_table where id = 1", mapper);
+        assertEquals("Rows fail", 1L, (long) metrics.getRowsByClass().get(Row.class.getName()));
+    }
+
+    @Test
+    public void testMBean() throws Exception {
+        MapperMetrics metrics = new MapperMetrics();
+        jt.query("select id from metrics_table", NamedConstructorMapper.forClass(Row.class).withListener(metrics));
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.alexkasko.springjdbc.named:type=MapperMetrics,name=test");
+        server.registerMBean(metrics, name);
+        try {
+            assertEquals("JMX fail", MapperMetrics.DEFAULT_SAMPLE_INTERVAL, server.getAttribute(name, "SampleInterval"));
+            assertNotNull("JMX fail", server.getAttribute(name, "RowsByConstructor"));
+            server.invoke(name, "reset", new Object[0], new String[0]);
+            assertTrue("JMX fail", metrics.getRowsByConstructor().isEmpty());
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+
+    private static long sum(long[] hist) {
+        long res = 0;
+        for(long l : hist) res += l;
+        return res;
+    }
+
+    private static class Row {
+        private Row(@Named("id") int id) {
+        }
+
+        private Row(@Named("id") int id, @Named("foo") String foo) {
+        }
+    }
+
+    private static class Mismatch {
+        private Mismatch(@Named("id") int id, @Named("foo") Date foo) {
+        }
+    }
+
+    private static class Failing {
+        private Failing(@Named("id") int id) {
+            throw new IllegalStateException("Failing: " + id);
+        }
+    }
+}
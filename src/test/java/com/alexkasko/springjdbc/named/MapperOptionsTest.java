@@ -0,0 +1,85 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class MapperOptionsTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:options_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table options_table(id int not null, status varchar(10), country varchar(10))");
+        for(int i = 0; i < 10; i++) {
+            jt.update("insert into options_table(id, status, country) values(?, ?, ?)", i, 0 == i % 2 ? "active" : "closed", "c" + i);
+        }
+    }
+
+    @Test
+    public void testCanonicalColumns() {
+        NamedConstructorMapper<Row> mapper = NamedConstructorMapper.forClass(Row.class).withCanonicalColumns("STATUS");
+        List<Row> list = jt.query("select * from options_table order by id", mapper);
+        assertSame("Canonical fail", list.get(0).status, list.get(2).status);
+        assertSame("Canonical fail", list.get(1).status, list.get(9).status);
+        List<Row> second = jt.query("select * from options_table order by id", mapper);
+        assertSame("Canonical fail", list.get(0).status, second.get(4).status);
+    }
+
+    @Test
+    public void testInstanceReuse() {
+        NamedConstructorMapper<Row> mapper = NamedConstructorMapper.forClass(Row.class).withInstanceReuse("id");
+        List<Row> joined = jt.query("select o.* from options_table o cross join options_table t order by o.id", mapper);
+        assertSame("Reuse fail", joined.get(50), joined.get(59));
+        assertEquals("Data fail", "c5", joined.get(59).country);
+        List<Row> second = jt.query("select * from options_table order by id", mapper);
+        assertNotSame("Scope fail", joined.get(50), second.get(5));
+        List<Row> fresh = jt.query("select * from options_table order by id", NamedConstructorMapper.forClass(Row.class));
+        assertNotSame("Default fail", second.get(5), fresh.get(5));
+    }
+
+    @Test
+    public void testInstanceReuseAcrossQueries() {
+        NamedConstructorMapper<Row> mapper = NamedConstructorMapper.forClass(Row.class).withInstanceReuse("id", 64, true);
+        List<Row> first = jt.query("select * from options_table order by id", mapper);
+        List<Row> second = jt.query("select * from options_table order by id", mapper);
+        assertSame("Reuse fail", first.get(5), second.get(5));
+        assertEquals("Data fail", "c5", second.get(5).country);
+        List<Row> other = jt.query("select id, status from options_table order by id", mapper);
+        assertNotSame("Constructor fail", first.get(5), other.get(5));
+        assertNull("Constructor fail", other.get(5).country);
+        mapper.clearReusedInstances();
+        List<Row> cleared = jt.query("select * from options_table order by id", mapper);
+        assertNotSame("Clear fail", first.get(5), cleared.get(5));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAbsentKeyColumn() {
+        jt.query("select * from options_table", NamedConstructorMapper.forClass(Row.class).withInstanceReuse("absent"));
+    }
+
+    private static class Row {
+        private final String status;
+        private final String country;
+
+        private Row(@Named("id") int id, @Named("status") String status) {
+            this(id, status, null);
+        }
+
+        private Row(@Named("id") int id, @Named("status") String status, @Named("country") String country) {
+            this.status = status;
+            this.country = country;
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Guards mapping hot path against per-row garbage and slowdowns. Each mapper is compared
+ * with hand-written mapper reading the same columns from the same result set, so allocations
+ * made by JDBC driver or stub result set are excluded from measured numbers.
+ * Allocation budget may be set with {@code springjdbc.named.test.allocBudget} (bytes per row) system property,
+ * budget for tuple callbacks may be set with {@code springjdbc.named.test.tupleAllocBudget}.
+ * Time is checked only if {@code springjdbc.named.test.timeBudget} (nanoseconds per row) is set,
+ * as timings are not stable on shared build machines.
+ * Allocation checks are skipped on JVMs without {@code com.sun.management.ThreadMXBean} support.
+ *
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class MappingAllocationTest {
+    private static final long ALLOC_BUDGET = Long.getLong("springjdbc.named.test.allocBudget", 128);
+    private static final long TUPLE_ALLOC_BUDGET = Long.getLong("springjdbc.named.test.tupleAllocBudget", 8);
+    private static final long TIME_BUDGET = Long.getLong("springjdbc.named.test.timeBudget", -1);
+    private static final int ROWS = 10000;
+    private static final int WARMUP_ROUNDS = 10;
+    private static final int ROUNDS = 5;
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:allocation_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table alloc_table(id bigint not null, name varchar(255), val int not null, kind varchar(255))");
+        for(int i = 0; i < ROWS; i++) {
+            jt.update("insert into alloc_table(id, name, val, kind) values(?, ?, ?, ?)", i, "name" + (i % 100), i,
+                    0 == i % 2 ? "foo" : "bar");
+        }
+    }
+
+    @Test
+    public void testSingleH2() {
+        check("single H2", new H2Source("select id, name, val from alloc_table"),
+                NamedConstructorMapper.forClass(Single.class), new SingleMapper());
+    }
+
+    @Test
+    public void testMultipleH2() {
+        check("multiple H2", new H2Source("select id, name from alloc_table"),
+                NamedConstructorMapper.forClass(Multiple.class), new MultipleMapper());
+    }
+
+    @Test
+    public void testSubclassesH2() {
+        check("subclasses H2", new H2Source("select id, name, val, kind from alloc_table"),
+                subclassesMapper(), new SubclassesMapper());
+    }
+
+    @Test
+    public void testSingleStub() {
+        check("single stub", new StubSource(), NamedConstructorMapper.forClass(Single.class), new SingleMapper());
+    }
+
+    @Test
+    public void testMultipleStub() {
+        check("multiple stub", new StubSource("id", "name"), NamedConstructorMapper.forClass(Multiple.class),
+                new MultipleMapper());
+    }
+
+    @Test
+    public void testSubclassesStub() {
+        check("subclasses stub", new StubSource(), subclassesMapper(), new SubclassesMapper());
+    }
+
+    @Test
+    public void testMeasurement() {
+        com.sun.management.ThreadMXBean mx = threadMXBean();
+        assumeTrue(null != mx);
+        long id = Thread.currentThread().getId();
+        long start = mx.getThreadAllocatedBytes(id);
+        Object[] garbage = new Object[ROWS];
+        for(int i = 0; i < ROWS; i++) {
+            garbage[i] = new long[8];
+        }
+        long allocated = mx.getThreadAllocatedBytes(id) - start;
+        assertTrue("Measurement fail: " + allocated, allocated >= ROWS * 64 && null != garbage[ROWS - 1]);
+    }
+
+    private static RowMapper<Parent> subclassesMapper() {
+        return NamedConstructorMapper.<Parent>builder("kind")
+                .addSubclass("foo", Foo.class)
+                .addSubclass("bar", Bar.class)
+                .build();
+    }
+
+    @Test
+    public void testTupleH2() {
+        check("tuple H2", new H2Source("select id, name, val, kind from alloc_table"),
+                new TupleMapper(subclassesMapper()), new TupleBaselineMapper(), TUPLE_ALLOC_BUDGET);
+    }
+
+    @Test
+    public void testTupleStub() {
+        check("tuple stub", new StubSource(), new TupleMapper(subclassesMapper()), new TupleBaselineMapper(),
+                TUPLE_ALLOC_BUDGET);
+    }
+
+    private static void check(String label, Source source, RowMapper<?> mapper, RowMapper<?> baseline) {
+        check(label, source, mapper, baseline, ALLOC_BUDGET);
+    }
+
+    private static void check(String label, Source source, RowMapper<?> mapper, RowMapper<?> baseline,
+                              long allocBudget) {
+        com.sun.management.ThreadMXBean mx = threadMXBean();
+        for(int i = 0; i < WARMUP_ROUNDS; i++) {
+            source.run(new MappingExtractor(mapper, mx));
+            source.run(new MappingExtractor(baseline, mx));
+        }
+        long bytes = Long.MAX_VALUE;
+        long nanos = Long.MAX_VALUE;
+        for(int i = 0; i < ROUNDS; i++) {
+            MappingExtractor named = new MappingExtractor(mapper, mx);
+            source.run(named);
+            MappingExtractor hand = new MappingExtractor(baseline, mx);
+            source.run(hand);
+            assertTrue("Rows count fail", named.rows == ROWS && hand.rows == ROWS);
+            bytes = Math.min(bytes, (named.bytes - hand.bytes) / ROWS);
+            nanos = Math.min(nanos, (named.nanos - hand.nanos) / ROWS);
+        }
+        if(TIME_BUDGET >= 0) {
+            assertTrue("Time budget exceeded for " + label + " mapper: " + nanos + " ns per row, " +
+                    "budget: " + TIME_BUDGET, nanos <= TIME_BUDGET);
+        }
+        if(null != mx) {
+            assertTrue("Allocation budget exceeded for " + label + " mapper: " + bytes + " bytes per row, " +
+                    "budget: " + allocBudget, bytes <= allocBudget);
+        }
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        try {
+            java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+            if(!(mx instanceof com.sun.management.ThreadMXBean)) return null;
+            com.sun.management.ThreadMXBean smx = (com.sun.management.ThreadMXBean) mx;
+            if(!smx.isThreadAllocatedMemorySupported()) return null;
+            if(!smx.isThreadAllocatedMemoryEnabled()) smx.setThreadAllocatedMemoryEnabled(true);
+            return smx;
+        } catch(LinkageError e) {
+            return null;
+        }
+    }
+
+    private interface Source {
+        void run(ResultSetExtractor<?> extractor);
+    }
+
+    private static class H2Source implements Source {
+        private final String sql;
+
+        private H2Source(String sql) {
+            this.sql = sql;
+        }
+
+        @Override
+        public void run(ResultSetExtractor<?> extractor) {
+            jt.query(sql, extractor);
+        }
+    }
+
+    private static class StubSource implements Source {
+        private final String[] columns;
+
+        private StubSource(String... columns) {
+            this.columns = columns.length > 0 ? columns : new String[]{"id", "name", "val", "kind"};
+        }
+
+        @Override
+        public void run(ResultSetExtractor<?> extractor) {
+            try {
+                extractor.extractData(StubHandler.resultSet(columns));
+            } catch(SQLException e) {
+                throw new RuntimeException(e);
+            }
+        }
+    }
+
+    private static class MappingExtractor implements ResultSetExtractor<Object> {
+        private final RowMapper<?> mapper;
+        private final com.sun.management.ThreadMXBean mx;
+        private int rows;
+        private long bytes;
+        private long nanos;
+        private int checksum;
+
+        private MappingExtractor(RowMapper<?> mapper, com.sun.management.ThreadMXBean mx) {
+            this.mapper = mapper;
+            this.mx = mx;
+        }
+
+        @Override
+        public Object extractData(ResultSet rs) throws SQLException {
+            long id = Thread.currentThread().getId();
+            long startBytes = null != mx ? mx.getThreadAllocatedBytes(id) : 0;
+            long startNanos = System.nanoTime();
+            while(rs.next()) {
+                checksum += mapper.mapRow(rs, rows++).hashCode();
+            }
+            nanos = System.nanoTime() - startNanos;
+            bytes = null != mx ? mx.getThreadAllocatedBytes(id) - startBytes : 0;
+            return checksum;
+        }
+    }
+
+    /**
+     * Stub result set returning the same columns values for each row, calls made by both compared mappers
+     * are the same, so proxy invocation allocations are excluded from compared numbers
+     */
+    private static class StubHandler implements InvocationHandler {
+        private static final String[] NAMES = new String[100];
+        static {
+            for(int i = 0; i < NAMES.length; i++) NAMES[i] = "name" + i;
+        }
+        private final String[] columns;
+        private int row = -1;
+
+        private StubHandler(String[] columns) {
+            this.columns = columns;
+        }
+
+        static ResultSet resultSet(String[] columns) {
+            return (ResultSet) Proxy.newProxyInstance(MappingAllocationTest.class.getClassLoader(),
+                    new Class<?>[]{ResultSet.class, ResultSetMetaData.class}, new StubHandler(columns));
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if("next".equals(name)) return ++row < ROWS;
+            if("getMetaData".equals(name)) return proxy;
+            if("getColumnCount".equals(name)) return columns.length;
+            if("getColumnLabel".equals(name) || "getColumnName".equals(name)) return columns[(Integer) args[0] - 1];
+            if("getColumnClassName".equals(name)) return columnClass(columns[(Integer) args[0] - 1]).getName();
+            if("wasNull".equals(name)) return false;
+            if("findColumn".equals(name)) {
+                for(int i = 0; i < columns.length; i++) {
+                    if(columns[i].equalsIgnoreCase((String) args[0])) return i + 1;
+                }
+                throw new SQLException("Column not found: '" + args[0] + "'");
+            }
+            if("getLong".equals(name)) return (long) row;
+            if("getInt".equals(name)) return row;
+            if(name.startsWith("get") && null != args && 1 == args.length && args[0] instanceof Integer) {
+                String col = columns[(Integer) args[0] - 1];
+                if("name".equals(col)) return NAMES[row % 100];
+                if("kind".equals(col)) return 0 == row % 2 ? "foo" : "bar";
+                return (long) row;
+            }
+            if("close".equals(name)) return null;
+            if("hashCode".equals(name)) return System.identityHashCode(proxy);
+            if("equals".equals(name)) return proxy == args[0];
+            throw new UnsupportedOperationException(name);
+        }
+
+        private static Class<?> columnClass(String col) {
+            if("name".equals(col) || "kind".equals(col)) return String.class;
+            if("val".equals(col)) return Integer.class;
+            return Long.class;
+        }
+    }
+
+    private static class Single {
+        private final long id;
+        private final String name;
+        private final int val;
+
+        private Single(@Named("id") long id, @Named("name") String name, @Named("val") int val) {
+            this.id = id;
+            this.name = name;
+            this.val = val;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) id + name.length() + val;
+        }
+    }
+
+    private static class SingleMapper implements RowMapper<Single> {
+        @Override
+        public Single mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Single(rs.getLong(1), rs.getString(2), rs.getInt(3));
+        }
+    }
+
+    private static class Multiple {
+        private final long id;
+        private final String name;
+        private final int val;
+
+        private Multiple(@Named("id") long id) {
+            this(id, "", 0);
+        }
+
+        private Multiple(@Named("id") long id, @Named("name") String name) {
+            this(id, name, 0);
+        }
+
+        private Multiple(@Named("id") long id, @Named("name") String name, @Named("val") int val) {
+            this.id = id;
+            this.name = name;
+            this.val = val;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) id + name.length() + val;
+        }
+    }
+
+    private static class MultipleMapper implements RowMapper<Multiple> {
+        @Override
+        public Multiple mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new Multiple(rs.getLong(1), rs.getString(2));
+        }
+    }
+
+    private static abstract class Parent {
+        protected final long id;
+        protected final String name;
+
+        protected Parent(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+
+        @Override
+        public int hashCode() {
+            return (int) id + name.length();
+        }
+    }
+
+    private static class Foo extends Parent {
+        private Foo(@Named("id") long id, @Named("name") String name) {
+            super(id, name);
+        }
+    }
+
+    private static class Bar extends Parent {
+        private final int val;
+
+        private Bar(@Named("id") long id, @Named("name") String name, @Named("val") int val) {
+            super(id, name);
+            this.val = val;
+        }
+    }
+
+    private static class SubclassesMapper implements RowMapper<Parent> {
+        @Override
+        public Parent mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Object kind = rs.getObject(4);
+            if("foo".equals(kind)) return new Foo(rs.getLong(1), rs.getString(2));
+            return new Bar(rs.getLong(1), rs.getString(2), rs.getInt(3));
+        }
+    }
+
+    /**
+     * Sums arguments with tuple callback, mapped object is the same for all rows
+     */
+    private static class TupleMapper extends NamedTupleCallbackHandler<Parent> implements RowMapper<Object> {
+        private long sum;
+
+        private TupleMapper(RowMapper<Parent> mapper) {
+            super((NamedConstructorMapper<Parent>) mapper);
+        }
+
+        @Override
+        protected void processTuple(NamedTuple tuple) throws SQLException {
+            sum += tuple.getLong(0) + tuple.getString(1).length();
+            if(3 == tuple.size()) sum += tuple.getInt(2);
+        }
+
+        @Override
+        public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+            processRow(rs);
+            return TupleMapper.class;
+        }
+    }
+
+    private static class TupleBaselineMapper implements RowMapper<Object> {
+        private long sum;
+
+        @Override
+        public Object mapRow(ResultSet rs, int rowNum) throws SQLException {
+            Object kind = rs.getObject(4);
+            sum += rs.getLong(1) + rs.getString(2).length();
+            if(!"foo".equals(kind)) sum += rs.getInt(3);
+            return TupleMapper.class;
+        }
+    }
+}
@@ -1,16 +1,34 @@
 package com.alexkasko.springjdbc.named;
 
 import org.junit.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.datasource.DriverManagerDataSource;
 
 import javax.inject.Named;
 
 import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.Assert.*;
 
@@ -106,6 +124,101 @@ public class NamedConstructorMapperTest {
         assertEquals("Data fail", 43, list.get(2).bar);
     }
 
+    private static class Multi {
+        private final int id;
+        private final String foo;
+
+        private Multi(@Named("id") int id) {
+            this(id, null);
+        }
+
+        private Multi(@Named("id") int id, @Named("foo") String foo) {
+            this.id = id;
+            this.foo = foo;
+        }
+    }
+
+    @Test
+    public void testPlanPerResultSet() {
+        jt.update("create table multi_table(id int not null, foo varchar(10))");
+        jt.update("insert into multi_table(id, foo) values(1, 'fff')");
+        jt.update("insert into multi_table(id, foo) values(2, 'nnn')");
+        RowMapper<Multi> mapper = NamedConstructorMapper.forClass(Multi.class);
+        List<Multi> full = jt.query("select * from multi_table order by id", mapper);
+        assertEquals("Size fail", 2, full.size());
+        assertEquals("Data fail", "fff", full.get(0).foo);
+        assertEquals("Data fail", "nnn", full.get(1).foo);
+        List<Multi> idOnly = jt.query("select id from multi_table order by id", mapper);
+        assertEquals("Size fail", 2, idOnly.size());
+        assertEquals("Data fail", 2, idOnly.get(1).id);
+        assertNull("Data fail", idOnly.get(1).foo);
+        List<Multi> reordered = jt.query("select foo as FOO, id from multi_table order by id", mapper);
+        assertEquals("Data fail", 1, reordered.get(0).id);
+        assertEquals("Data fail", "fff", reordered.get(0).foo);
+    }
+
+    private static class Typed {
+        private final long id;
+        private final double amount;
+        private final String code;
+
+        private Typed(@Named("id") long id, @Named("amount") double amount, @Named("code") String code) {
+            this.id = id;
+            this.amount = amount;
+            this.code = code;
+        }
+    }
+
+    private static class Mismatch {
+        private Mismatch(@Named("id") long id, @Named("code") Date code) {
+        }
+    }
+
+    @Test
+    public void testTypedReaders() {
+        jt.update("create table typed_table(id int not null, amount decimal(10, 2), code int)");
+        jt.update("insert into typed_table(id, amount, code) values(1, 4.25, 42)");
+        List<Typed> list = jt.query("select * from typed_table", NamedConstructorMapper.forClass(Typed.class));
+        assertEquals("Size fail", 1, list.size());
+        assertEquals("Data fail", 1, list.get(0).id);
+        assertEquals("Data fail", 4.25, list.get(0).amount, 0.001);
+        assertEquals("Data fail", "42", list.get(0).code);
+        try {
+            jt.query("select * from typed_table", NamedConstructorMapper.forClass(Mismatch.class));
+            fail("Type check fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getMessage().contains("code"));
+        }
+        try {
+            jt.query("select id, cast(code as varchar) as code from typed_table", NamedConstructorMapper.forClass(Coded.class));
+            fail("Type check fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getMessage().contains("code"));
+        }
+    }
+
+    private static class Coded {
+        private Coded(@Named("id") long id, @Named("code") int code) {
+        }
+    }
+
+    private static class Cached {
+        private Cached(@Named("id") int id) {
+        }
+    }
+
+    @Test
+    public void testCache() {
+        NamedConstructorMapper.clearCache();
+        long misses = NamedConstructorMapper.cacheMissCount();
+        long hits = NamedConstructorMapper.cacheHitCount();
+        NamedConstructorMapper.forClass(Cached.class);
+        NamedConstructorMapper.forClass(Cached.class);
+        NamedConstructorMapper.namedConstructorMapper(Cached.class);
+        assertEquals("Miss fail", misses + 1, NamedConstructorMapper.cacheMissCount());
+        assertEquals("Hit fail", hits + 2, NamedConstructorMapper.cacheHitCount());
+    }
+
     private static abstract class Parent {
         protected final int id;
         protected final String common;
@@ -174,4 +287,166 @@ public class NamedConstructorMapperTest {
         assertEquals("Data fail", "nnn", list.get(2).common);
         assertEquals("Data fail", -1, ((Foo) list.get(2)).fooColumn);
     }
-}
\ No newline at end of file
+
+    private enum Kind {FOO, BAR}
+
+    @Test
+    public void testSubclassesNonStringDiscriminator() {
+        jt.update("create table int_disc_table(id int, disc int, kind varchar(10), common_col varchar(10), " +
+                "foo_col int, bar_col timestamp)");
+        jt.update("insert into int_disc_table(id, disc, kind, common_col, foo_col) values(1, 1, 'FOO', 'fff', 42)");
+        jt.update("insert into int_disc_table(id, disc, kind, common_col, bar_col) " +
+                "values(2, 2, 'BAR', 'bbb', '2012-01-01 00:00:00')");
+        RowMapper<Parent> intMapper = NamedConstructorMapper.<Parent>builder("disc")
+                .addSubclass(1L, Foo.class)
+                .addSubclass(2, Bar.class)
+                .build();
+        List<Parent> intList = jt.query("select * from int_disc_table order by id", intMapper);
+        assertTrue("Subclass fail", intList.get(0) instanceof Foo);
+        assertEquals("Data fail", 42, ((Foo) intList.get(0)).fooColumn);
+        assertTrue("Subclass fail", intList.get(1) instanceof Bar);
+        RowMapper<Parent> enumMapper = NamedConstructorMapper.<Parent>builder("KIND")
+                .addSubclass(Kind.FOO, Foo.class)
+                .addSubclass(Kind.BAR, Bar.class)
+                .build();
+        List<Parent> enumList = jt.query("select * from int_disc_table order by id", enumMapper);
+        assertTrue("Subclass fail", enumList.get(0) instanceof Foo);
+        assertTrue("Subclass fail", enumList.get(1) instanceof Bar);
+        assertEquals("Data fail", "bbb", enumList.get(1).common);
+    }
+
+    @Test
+    public void testSubclassesPlanDoesNotReferenceResultSet() {
+        jt.update("create table released_table(id int, disc varchar(10), common_col varchar(10), foo_col int)");
+        jt.update("insert into released_table(id, disc, common_col, foo_col) values(1, 'Foo', 'fff', 42)");
+        final NamedConstructorSubclassesMapper<Parent> mapper = (NamedConstructorSubclassesMapper<Parent>)
+                NamedConstructorMapper.<Parent>builder("disc").addSubclass("Foo", Foo.class).build();
+        Object plan = jt.query("select * from released_table", new ResultSetExtractor<Object>() {
+            @Override
+            public Object extractData(ResultSet rs) throws SQLException {
+                RowPlan<Parent> plan = mapper.plan(rs);
+                while(rs.next()) plan.invoke(rs);
+                return plan;
+            }
+        });
+        assertNoResultSetReferences(plan, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+    }
+
+    @Test
+    public void testBoundPlanWeakReference() {
+        ResultSet rs = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{ResultSet.class}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        BoundPlan<Object> bp = new BoundPlan<Object>(rs, new Object());
+        assertTrue("Bound fail", bp.isFor(rs));
+        bp.clear();
+        assertNull("Weak fail", bp.get());
+        assertFalse("Bound fail", bp.isFor(rs));
+    }
+
+    // walks library objects, collections and arrays reachable through strong references
+    private static void assertNoResultSetReferences(Object obj, Set<Object> visited) {
+        if(null == obj || obj instanceof Class || !visited.add(obj)) return;
+        assertFalse("Result set reference: " + obj, obj instanceof ResultSet || obj instanceof ResultSetMetaData);
+        if(obj instanceof Map) {
+            for(Map.Entry<?, ?> en : ((Map<?, ?>) obj).entrySet()) {
+                assertNoResultSetReferences(en.getKey(), visited);
+                assertNoResultSetReferences(en.getValue(), visited);
+            }
+        } else if(obj instanceof Collection) {
+            for(Object el : (Collection<?>) obj) assertNoResultSetReferences(el, visited);
+        } else if(obj instanceof Object[]) {
+            for(Object el : (Object[]) obj) assertNoResultSetReferences(el, visited);
+        } else if(obj.getClass().getName().startsWith("com.alexkasko.")) {
+            for(Class<?> cl = obj.getClass(); null != cl && cl.getName().startsWith("com.alexkasko."); cl = cl.getSuperclass()) {
+                for(Field fi : cl.getDeclaredFields()) {
+                    if(Modifier.isStatic(fi.getModifiers()) || fi.getType().isPrimitive()) continue;
+                    fi.setAccessible(true);
+                    try {
+                        assertNoResultSetReferences(fi.get(obj), visited);
+                    } catch(IllegalAccessException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBufferCleared() throws Exception {
+        jt.update("create table buffer_table(id int, foo_col varchar(10))");
+        jt.update("insert into buffer_table(id, foo_col) values(1, 'foo')");
+        Field bufferField = NamedConstructorPlan.class.getDeclaredField("buffer");
+        bufferField.setAccessible(true);
+        Field wrappedField = DeduplicatingPlan.class.getDeclaredField("plan");
+        wrappedField.setAccessible(true);
+        NamedConstructorMapper<Buffered> mapper = NamedConstructorMapper.forClass(Buffered.class);
+        Object plan = cachedPlan(mapper, "select * from buffer_table");
+        assertArrayEquals("Buffer fail", new Object[2], (Object[]) bufferField.get(plan));
+        Object wrapped = wrappedField.get(cachedPlan(mapper.withCanonicalColumns("foo_col"), "select * from buffer_table"));
+        assertArrayEquals("Canonical buffer fail", new Object[2], (Object[]) bufferField.get(wrapped));
+    }
+
+    @Test
+    public void testPlanPerConcurrentResultSet() {
+        jt.update("create table concurrent_table(id int not null, foo varchar(10))");
+        jt.update("insert into concurrent_table(id, foo) values(1, 'fff')");
+        jt.update("insert into concurrent_table(id, foo) values(2, 'nnn')");
+        final AtomicInteger plans = new AtomicInteger();
+        final NamedConstructorMapper<Multi> mapper = new NamedConstructorSingleMapper<Multi>(
+                NamedConstructorCache.INSTANCE.forClass(Multi.class)) {
+            @Override
+            RowPlan<Multi> plan(ResultSet rs) throws SQLException {
+                plans.incrementAndGet();
+                return super.plan(rs);
+            }
+        };
+        // rows of two open result sets are mapped alternately, as by two threads sharing mapper
+        jt.execute(new ConnectionCallback<Object>() {
+            @Override
+            public Object doInConnection(Connection con) throws SQLException {
+                Statement st1 = con.createStatement();
+                Statement st2 = con.createStatement();
+                try {
+                    ResultSet rs1 = st1.executeQuery("select * from concurrent_table order by id");
+                    ResultSet rs2 = st2.executeQuery("select id from concurrent_table order by id");
+                    while(rs1.next() && rs2.next()) {
+                        assertNotNull("Data fail", mapper.mapRow(rs1, 0).foo);
+                        assertNull("Data fail", mapper.mapRow(rs2, 0).foo);
+                    }
+                } finally {
+                    st1.close();
+                    st2.close();
+                }
+                return null;
+            }
+        });
+        assertEquals("Plans fail", 2, plans.get());
+    }
+
+    // maps all rows and returns plan cached in mapper for result set
+    private static Object cachedPlan(final NamedConstructorMapper<?> mapper, String sql) throws Exception {
+        final Field plansField = NamedConstructorSingleMapper.class.getDeclaredField("plans");
+        plansField.setAccessible(true);
+        return jt.query(sql, new ResultSetExtractor<Object>() {
+            @Override
+            public Object extractData(ResultSet rs) throws SQLException {
+                while(rs.next()) mapper.mapRow(rs, 0);
+                try {
+                    return ((PlanCache<?>) plansField.get(mapper)).get(rs);
+                } catch(IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+    }
+
+    private static class Buffered {
+        private Buffered(@Named("id") int id, @Named("foo_col") String foo) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.alexkasko.springjdbc.named;
+
+import com.alexkasko.springjdbc.named.registry.RegisteredBar;
+import com.alexkasko.springjdbc.named.registry.RegisteredFoo;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class NamedConstructorRegistryTest {
+
+    @Test
+    public void testScanAndRegister() throws Exception {
+        List<Class<?>> classes = NamedConstructorRegistry.scanPackages(getClass().getClassLoader(),
+                "com.alexkasko.springjdbc.named.registry");
+        assertEquals("Scan fail", Arrays.<Class<?>>asList(RegisteredBar.class, RegisteredFoo.class), classes);
+        NamedConstructorMapper.clearCache();
+        NamedConstructorRegistry.register(classes);
+        long misses = NamedConstructorMapper.cacheMissCount();
+        NamedConstructorMapper.forClass(RegisteredFoo.class);
+        NamedConstructorMapper.forClass(RegisteredBar.class);
+        assertEquals("Register fail", misses, NamedConstructorMapper.cacheMissCount());
+    }
+
+    @Test
+    public void testIndex() throws Exception {
+        StringWriter writer = new StringWriter();
+        NamedConstructorRegistry.writeIndex(Arrays.<Class<?>>asList(RegisteredFoo.class, RegisteredBar.class), writer);
+        String index = writer.toString();
+        assertTrue("Write fail", index.contains(RegisteredFoo.class.getName() + "(long,java.lang.String)=id,name\n"));
+        assertTrue("Write fail", index.contains(RegisteredBar.class.getName() + "([B)=data\n"));
+        NamedConstructorMapper.clearCache();
+        int count = NamedConstructorRegistry.loadIndex(new StringReader(index), getClass().getClassLoader());
+        assertEquals("Load fail", 2, count);
+        long misses = NamedConstructorMapper.cacheMissCount();
+        NamedConstructorMapper<RegisteredFoo> mapper = NamedConstructorMapper.forClass(RegisteredFoo.class);
+        assertEquals("Load fail", misses, NamedConstructorMapper.cacheMissCount());
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:registry_test");
+        RegisteredFoo foo = new JdbcTemplate(ds).queryForObject("select 42 as id", mapper);
+        assertEquals("Mapping fail", 42, foo.id);
+        assertNull("Mapping fail", foo.name);
+    }
+
+    @Test
+    public void testFingerprint() throws Exception {
+        StringWriter writer = new StringWriter();
+        NamedConstructorRegistry.writeIndex(Arrays.<Class<?>>asList(RegisteredFoo.class), writer);
+        String index = writer.toString();
+        String prefix = RegisteredFoo.class.getName() + "#";
+        assertTrue("Write fail", index.startsWith(prefix));
+        String fingerprint = index.substring(prefix.length(), index.indexOf('\n'));
+        // index written for previous version of class with renamed @Named value
+        String stale = index.replace(prefix + fingerprint, prefix + "0").replace("=id,name", "=id,title");
+        try {
+            NamedConstructorRegistry.loadIndex(new StringReader(stale), getClass().getClassLoader());
+            fail("Fingerprint fail");
+        } catch(IllegalArgumentException e) {
+            assertTrue("Message fail", e.getMessage().contains(RegisteredFoo.class.getName()));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testStaleIndex() throws Exception {
+        NamedConstructorRegistry.loadIndex(new StringReader(RegisteredFoo.class.getName() + "(int)=id\n"),
+                getClass().getClassLoader());
+    }
+}
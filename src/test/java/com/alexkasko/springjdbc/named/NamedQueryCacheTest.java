@@ -0,0 +1,155 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class NamedQueryCacheTest {
+    private static final DriverManagerDataSource ds;
+    private static final JdbcTemplate jt;
+
+    static {
+        ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:query_cache_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table cache_table(id int not null, region int not null, name varchar(255))");
+        for(int i = 0; i < 10; i++) {
+            jt.update("insert into cache_table(id, region, name) values(?, ?, ?)", i, i % 2, "name" + i);
+        }
+    }
+
+    @Test
+    public void testHits() {
+        NamedQueryCache cache = new NamedQueryCache(ds, 1000, 0);
+        NamedConstructorMapper<Foo> mapper = NamedConstructorMapper.forClass(Foo.class);
+        List<Foo> first = cache.query(mapper, "select id, name from cache_table where region = ?", 1);
+        List<Foo> second = cache.query(mapper, "select id, name from cache_table where region = ?", 1);
+        List<Foo> other = cache.query(mapper, "select id, name from cache_table where region = ?", 0);
+        assertEquals("Size fail", 5, first.size());
+        assertSame("Hit fail", first, second);
+        assertNotSame("Args fail", first, other);
+        assertEquals("Hits fail", 1, cache.hitCount());
+        assertEquals("Misses fail", 2, cache.missCount());
+        assertEquals("Hit rate fail", 1d / 3, cache.hitRate(), 0.0001);
+        assertEquals("Entries fail", 2, cache.size());
+        assertEquals("Rows fail", 10, cache.rows());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable() {
+        NamedQueryCache cache = new NamedQueryCache(ds, 1000, 0);
+        cache.query(NamedConstructorMapper.forClass(Foo.class), "select id, name from cache_table").clear();
+    }
+
+    @Test
+    public void testEviction() {
+        NamedQueryCache cache = new NamedQueryCache(ds, 12, 0);
+        NamedConstructorMapper<Foo> mapper = NamedConstructorMapper.forClass(Foo.class);
+        String sql = "select id, name from cache_table where region = ?";
+        List<Foo> region0 = cache.query(mapper, sql, 0);
+        cache.query(mapper, sql, 1);
+        assertSame("LRU fail", region0, cache.query(mapper, sql, 0));
+        cache.query(mapper, "select id, name from cache_table where id < ?", 3);
+        assertEquals("Eviction fail", 1, cache.evictionCount());
+        assertEquals("Rows fail", 8, cache.rows());
+        assertSame("LRU fail", region0, cache.query(mapper, sql, 0));
+        assertNotSame("Evicted fail", region0, cache.query(mapper, sql, 1));
+    }
+
+    @Test
+    public void testTtl() throws InterruptedException {
+        NamedQueryCache cache = new NamedQueryCache(ds, 1000, 50);
+        NamedConstructorMapper<Foo> mapper = NamedConstructorMapper.forClass(Foo.class);
+        List<Foo> first = cache.query(mapper, "select id, name from cache_table");
+        Thread.sleep(100);
+        List<Foo> second = cache.query(mapper, "select id, name from cache_table");
+        assertNotSame("TTL fail", first, second);
+        assertEquals("Misses fail", 2, cache.missCount());
+    }
+
+    @Test
+    public void testInvalidation() {
+        NamedQueryCache cache = new NamedQueryCache(ds, 1000, 0);
+        NamedConstructorMapper<Foo> mapper = NamedConstructorMapper.forClass(Foo.class);
+        List<Foo> tagged = cache.query(Arrays.asList("cache_table", "foo"), mapper, "select id, name from cache_table");
+        List<Foo> other = cache.query(Arrays.asList("other_table"), mapper, "select id, name from cache_table where id = ?", 1);
+        cache.invalidate("cache_table");
+        assertEquals("Invalidate fail", 1, cache.size());
+        assertNotSame("Invalidate fail", tagged, cache.query(mapper, "select id, name from cache_table"));
+        assertSame("Other tag fail", other, cache.query(mapper, "select id, name from cache_table where id = ?", 1));
+        cache.invalidate("foo");
+        assertEquals("Tag cleanup fail", 2, cache.size());
+        cache.invalidateAll();
+        assertEquals("Invalidate all fail", 0, cache.size());
+        assertEquals("Rows fail", 0, cache.rows());
+    }
+
+    @Test
+    public void testSingleFlight() throws Exception {
+        final NamedQueryCache cache = new NamedQueryCache(ds, 1000, 0);
+        final NamedConstructorMapper<Slow> mapper = NamedConstructorMapper.forClass(Slow.class);
+        Slow.COUNTER.set(0);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<Slow>>> futures = new ArrayList<Future<List<Slow>>>();
+            for(int i = 0; i < 8; i++) {
+                futures.add(executor.submit(new Callable<List<Slow>>() {
+                    @Override
+                    public List<Slow> call() throws Exception {
+                        start.await();
+                        return cache.query(mapper, "select id from cache_table");
+                    }
+                }));
+            }
+            start.countDown();
+            List<Slow> first = futures.get(0).get();
+            for(Future<List<Slow>> fu : futures) {
+                assertSame("Single flight fail", first, fu.get());
+            }
+            assertEquals("Loads fail", 10, Slow.COUNTER.get());
+            assertEquals("Requests fail", 8, cache.hitCount() + cache.missCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static class Foo {
+        private final int id;
+        private final String name;
+
+        private Foo(@Named("id") int id, @Named("name") String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    private static class Slow {
+        private static final AtomicInteger COUNTER = new AtomicInteger();
+        private final int id;
+
+        private Slow(@Named("id") int id) throws InterruptedException {
+            Thread.sleep(20);
+            COUNTER.incrementAndGet();
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class NamedTupleCallbackHandlerTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:tuple_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table tuple_table(id bigint not null, amount int, state varchar(255), kind varchar(255))");
+        jt.update("insert into tuple_table(id, amount, state, kind) values(1, 10, 'ACTIVE', 'foo')");
+        jt.update("insert into tuple_table(id, amount, state, kind) values(2, null, 'CLOSED', 'bar')");
+        jt.update("insert into tuple_table(id, amount, state, kind) values(3, 32, 'ACTIVE', 'foo')");
+    }
+
+    @Test
+    public void testSingle() {
+        final long[] sum = new long[2];
+        final List<Object> states = new ArrayList<Object>();
+        jt.query("select id, amount, state from tuple_table order by id", new NamedTupleCallbackHandler<Foo>(
+                NamedConstructorMapper.forClass(Foo.class)) {
+            @Override
+            protected void processTuple(NamedTuple tuple) throws SQLException {
+                assertEquals("Type fail", Foo.class, tuple.type());
+                assertEquals("Size fail", 3, tuple.size());
+                assertEquals("Name fail", "amount", tuple.name(1));
+                assertEquals("Index fail", -1, tuple.indexOf("kind"));
+                sum[0] += tuple.getLong(tuple.indexOf("ID"));
+                sum[1] += tuple.getInt(tuple.indexOf("amount"));
+                if(tuple.wasNull()) sum[1] += 100;
+                states.add(tuple.getObject(tuple.indexOf("state")));
+            }
+        });
+        assertEquals("Long fail", 6, sum[0]);
+        assertEquals("Null fail", 142, sum[1]);
+        assertEquals("Converter fail", State.ACTIVE, states.get(0));
+        assertEquals("Converter fail", State.CLOSED, states.get(1));
+    }
+
+    @Test
+    public void testSubclasses() {
+        final List<String> res = new ArrayList<String>();
+        NamedConstructorMapper<Parent> mapper = (NamedConstructorMapper<Parent>) NamedConstructorMapper.<Parent>builder("kind")
+                .addSubclass("foo", Foo.class)
+                .addSubclass("bar", Bar.class)
+                .build();
+        jt.query("select id, amount, state, kind from tuple_table order by id", new NamedTupleCallbackHandler<Parent>(mapper) {
+            @Override
+            protected void processTuple(NamedTuple tuple) throws SQLException {
+                res.add(tuple.type().getSimpleName() + ":" + tuple.size() + ":" + tuple.getString(0));
+            }
+        });
+        assertEquals("Size fail", 3, res.size());
+        assertEquals("Subclass fail", "Foo:3:1", res.get(0));
+        assertEquals("Subclass fail", "Bar:1:2", res.get(1));
+        assertEquals("Subclass fail", "Foo:3:3", res.get(2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidIndex() {
+        jt.query("select id, amount, state from tuple_table", new NamedTupleCallbackHandler<Foo>(
+                NamedConstructorMapper.forClass(Foo.class)) {
+            @Override
+            protected void processTuple(NamedTuple tuple) throws SQLException {
+                tuple.getInt(3);
+            }
+        });
+    }
+
+    @Test
+    public void testBufferReuse() {
+        List<Foo> list = jt.query("select id, amount, state from tuple_table where amount is not null order by id",
+                NamedConstructorMapper.forClass(Foo.class));
+        assertEquals("Size fail", 2, list.size());
+        assertEquals("Reuse fail", 1, list.get(0).id);
+        assertEquals("Reuse fail", 10, list.get(0).amount);
+        assertEquals("Reuse fail", 3, list.get(1).id);
+        assertEquals("Reuse fail", 32, list.get(1).amount);
+    }
+
+    enum State {ACTIVE, CLOSED}
+
+    private static abstract class Parent {
+        protected final long id;
+
+        protected Parent(long id) {
+            this.id = id;
+        }
+    }
+
+    private static class Foo extends Parent {
+        private final int amount;
+        private final State state;
+
+        private Foo(@Named("id") long id, @Named("amount") int amount, @Named("state") State state) {
+            super(id);
+            this.amount = amount;
+            this.state = state;
+        }
+    }
+
+    private static class Bar extends Parent {
+        private Bar(@Named("id") long id) {
+            super(id);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class OneToManyResultSetExtractorTest {
+    private static final String SQL = "select o.id as order_id, o.customer as order_customer, " +
+            "l.id as line_id, l.product as line_product " +
+            "from orders o left join lines l on l.order_id = o.id order by o.id, l.id";
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:one_to_many_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table orders(id int not null, customer varchar(10))");
+        jt.update("create table lines(id int not null, order_id int not null, product varchar(10))");
+        jt.update("insert into orders(id, customer) values(1, 'foo')");
+        jt.update("insert into orders(id, customer) values(2, 'bar')");
+        jt.update("insert into orders(id, customer) values(3, 'baz')");
+        jt.update("insert into lines(id, order_id, product) values(10, 1, 'p10')");
+        jt.update("insert into lines(id, order_id, product) values(11, 1, 'p11')");
+        jt.update("insert into lines(id, order_id, product) values(30, 3, 'p30')");
+    }
+
+    @Test
+    public void testAggregate() {
+        List<Order> orders = jt.query(SQL, new OneToManyResultSetExtractor<Order, Line>(
+                Order.class, "order_", "order_id", Line.class, "line_", "lines"));
+        assertEquals("Size fail", 3, orders.size());
+        assertEquals("Parent fail", "foo", orders.get(0).customer);
+        assertEquals("Children fail", 2, orders.get(0).lines.size());
+        assertEquals("Children fail", "p11", orders.get(0).lines.get(1).product);
+        assertEquals("Empty fail", 0, orders.get(1).lines.size());
+        assertEquals("Children fail", 30, orders.get(2).lines.get(0).id);
+    }
+
+    @Test
+    public void testChildKey() {
+        final OneToManyResultSetExtractor<Order, Line> extractor = new OneToManyResultSetExtractor<Order, Line>(
+                Order.class, "order_", "order_id", Line.class, "line_", "line_id", "lines");
+        final Set<Object> read = new HashSet<Object>();
+        List<Order> orders = jt.query(SQL, new ResultSetExtractor<List<Order>>() {
+            @Override
+            public List<Order> extractData(final ResultSet rs) throws SQLException {
+                ResultSet counting = (ResultSet) Proxy.newProxyInstance(getClass().getClassLoader(),
+                        new Class<?>[]{ResultSet.class}, new InvocationHandler() {
+                            @Override
+                            public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                                if("getObject".equals(method.getName())) read.add(args[0]);
+                                try {
+                                    return method.invoke(rs, args);
+                                } catch(InvocationTargetException e) {
+                                    throw e.getCause();
+                                }
+                            }
+                        });
+                return extractor.extractData(counting);
+            }
+        });
+        assertEquals("Size fail", 3, orders.size());
+        assertEquals("Children fail", 2, orders.get(0).lines.size());
+        assertEquals("Empty fail", 0, orders.get(1).lines.size());
+        assertEquals("Children fail", 30, orders.get(2).lines.get(0).id);
+        // parent key and child key only
+        assertEquals("Columns fail", new HashSet<Object>(Arrays.asList(1, 3)), read);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNoChildKey() {
+        jt.query(SQL, new OneToManyResultSetExtractor<Order, Line>(
+                Order.class, "order_", "order_id", Line.class, "line_", "line_code", "lines"));
+    }
+
+    @Test(expected = IllegalAccessError.class)
+    public void testNoChildrenArgument() {
+        jt.query(SQL, new OneToManyResultSetExtractor<Order, Line>(
+                Order.class, "order_", "order_id", Line.class, "line_", "items"));
+    }
+
+    private static class Order {
+        private final int id;
+        private final String customer;
+        private final List<Line> lines;
+
+        private Order(@Named("id") int id, @Named("customer") String customer, @Named("lines") List<Line> lines) {
+            this.id = id;
+            this.customer = customer;
+            this.lines = lines;
+        }
+    }
+
+    private static class Line {
+        private final int id;
+        private final String product;
+
+        private Line(@Named("id") int id, @Named("product") String product) {
+            this.id = id;
+            this.product = product;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.AfterClass;
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ParallelResultSetExtractorTest {
+    private static final JdbcTemplate jt;
+    private static final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:parallel_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table parallel_table(id int not null, foo varchar(10))");
+        for(int i = 0; i < 1000; i++) {
+            jt.update("insert into parallel_table(id, foo) values(?, ?)", i, "foo" + i);
+        }
+    }
+
+    @AfterClass
+    public static void shutdown() {
+        executor.shutdown();
+    }
+
+    private static class Heavy {
+        private final int id;
+        private final String foo;
+
+        private Heavy(@Named("id") int id, @Named("foo") String foo) {
+            if(!foo.equals("foo" + id)) throw new IllegalArgumentException(foo);
+            this.id = id;
+            this.foo = foo;
+        }
+    }
+
+    private static class Slow {
+        private final int id;
+
+        private Slow(@Named("id") int id) throws InterruptedException {
+            if(0 == id) throw new IllegalStateException("fail");
+            Thread.sleep(1);
+            this.id = id;
+        }
+    }
+
+    @Test
+    public void testOrdered() {
+        ParallelResultSetExtractor<Heavy> ex = new ParallelResultSetExtractor<Heavy>(
+                NamedConstructorMapper.forClass(Heavy.class), executor, 10, 3, true);
+        List<Heavy> list = jt.query("select * from parallel_table order by id", ex);
+        assertEquals("Size fail", 1000, list.size());
+        for(int i = 0; i < list.size(); i++) {
+            assertEquals("Order fail", i, list.get(i).id);
+        }
+    }
+
+    @Test
+    public void testUnordered() {
+        ParallelResultSetExtractor<Heavy> ex = new ParallelResultSetExtractor<Heavy>(
+                NamedConstructorMapper.forClass(Heavy.class), executor, 7, 2, false);
+        List<Heavy> list = jt.query("select * from parallel_table", ex);
+        assertEquals("Size fail", 1000, list.size());
+        Set<Integer> ids = new HashSet<Integer>();
+        for(Heavy he : list) {
+            ids.add(he.id);
+        }
+        assertEquals("Data fail", 1000, ids.size());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testError() {
+        ParallelResultSetExtractor<Heavy> ex = new ParallelResultSetExtractor<Heavy>(
+                NamedConstructorMapper.forClass(Heavy.class), executor);
+        jt.query("select id, 'bar' as foo from parallel_table", ex);
+    }
+
+    @Test
+    public void testEarlyError() {
+        final ParallelResultSetExtractor<Slow> ex = new ParallelResultSetExtractor<Slow>(
+                NamedConstructorMapper.forClass(Slow.class), executor, 1, 2, true);
+        int remaining = jt.query("select id from parallel_table order by id", new ResultSetExtractor<Integer>() {
+            @Override
+            public Integer extractData(ResultSet rs) throws SQLException {
+                try {
+                    ex.extractData(rs);
+                    fail("Error fail");
+                } catch(RuntimeException e) {
+                    // expected
+                }
+                int count = 0;
+                while(rs.next()) count += 1;
+                return count;
+            }
+        });
+        assertTrue("Early error fail: " + remaining, remaining > 900);
+    }
+
+    @Test
+    public void testCustomMapper() {
+        ParallelResultSetExtractor<Integer> ex = new ParallelResultSetExtractor<Integer>(new CustomMapper(), executor, 10, 3, true);
+        List<Integer> list = jt.query("select id from parallel_table order by id", ex);
+        assertEquals("Size fail", 1000, list.size());
+        assertEquals("Data fail", 999, (int) list.get(999));
+    }
+
+    // mapper implemented without package-private methods, as it would be outside of library
+    private static class CustomMapper extends NamedConstructorMapper<Integer> {
+        @Override
+        public Integer mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return rs.getInt("id");
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ParameterExtractorTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:parameter_extractor_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table batch_table(id bigint not null, customer_name varchar(10), active boolean)");
+        jt.update("create table named_table(id bigint not null, customer_name varchar(10), active boolean)");
+    }
+
+    @Test
+    public void testBatchSetter() {
+        List<PublicRow> list = new ArrayList<PublicRow>();
+        for(int i = 0; i < 100; i++) {
+            list.add(new PublicRow(i, 0 == i % 10 ? null : "foo" + i, 0 == i % 2));
+        }
+        ParameterExtractor<PublicRow> extractor = ParameterExtractor.forClass(PublicRow.class, "id", "customer_name", "active");
+        assertTrue("Generation fail", extractor.toString().contains("NamedAccessor"));
+        jt.batchUpdate("insert into batch_table(id, customer_name, active) values(?, ?, ?)", extractor.batchSetter(list));
+        List<PublicRow> read = jt.query("select * from batch_table order by id", NamedConstructorMapper.forClass(PublicRow.class));
+        assertEquals("Size fail", 100, read.size());
+        assertEquals("Data fail", 42, read.get(42).id);
+        assertNull("Null fail", read.get(10).customerName);
+        assertEquals("Data fail", "foo43", read.get(43).getCustomerName());
+        assertTrue("Data fail", read.get(42).isActive());
+    }
+
+    @Test
+    public void testParameterSources() {
+        ParameterExtractor<PrivateRow> extractor = ParameterExtractor.forClass(PrivateRow.class);
+        assertEquals("Names fail", Arrays.asList("id", "customer_name", "active"), extractor.names());
+        assertTrue("Reflection fail", extractor.toString().contains("ReflectionValuesAccessor"));
+        List<PrivateRow> list = Arrays.asList(new PrivateRow(1, "foo", true), new PrivateRow(2, "bar", false));
+        new NamedParameterJdbcTemplate(jt).batchUpdate("insert into named_table(id, customer_name, active) " +
+                "values(:id, :CUSTOMER_NAME, :active)", extractor.parameterSources(list));
+        assertEquals("Data fail", "bar", jt.queryForObject("select customer_name from named_table where id = 2", String.class));
+        assertArrayEquals("Values fail", new Object[]{1L, "foo", true}, extractor.values(list.get(0)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testAbsentMember() {
+        ParameterExtractor.forClass(PrivateRow.class, "id", "absent");
+    }
+
+    public static class PublicRow {
+        public final long id;
+        private final String customerName;
+        private final boolean active;
+
+        public PublicRow(@Named("id") long id, @Named("customer_name") String customerName, @Named("active") boolean active) {
+            this.id = id;
+            this.customerName = customerName;
+            this.active = active;
+        }
+
+        public String getCustomerName() {
+            return customerName;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+    }
+
+    private static class PrivateRow {
+        private final long id;
+        private final String customerName;
+        private final boolean active;
+
+        private PrivateRow(@Named("id") long id, @Named("customer_name") String customerName, @Named("active") boolean active) {
+            this.id = id;
+            this.customerName = customerName;
+            this.active = active;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class PartitionedQueryTest {
+    private static final DriverManagerDataSource ds;
+
+    static {
+        ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:partitioned_test;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jt = new JdbcTemplate(ds);
+        jt.update("create table partitioned_table(id bigint not null, name varchar(255), active boolean)");
+        jt.update("insert into partitioned_table(id, name, active) select x, 'name' || x, mod(x, 2) = 0 from system_range(1, 10000)");
+    }
+
+    @Test
+    public void testOrdered() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PartitionedQuery<Foo> query = new PartitionedQuery<Foo>(ds, NamedConstructorMapper.forClass(Foo.class),
+                    executor, 7, 1, 10000, "select id, name from partitioned_table where id between ? and ? order by id");
+            assertEquals("Partitions fail", 7, query.partitions());
+            List<Foo> list = query.list(true);
+            assertEquals("Size fail", 10000, list.size());
+            for(int i = 0; i < list.size(); i++) {
+                assertEquals("Order fail", i + 1, list.get(i).id);
+            }
+            assertEquals("Data fail", "name10000", list.get(9999).name);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testUnordered() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PartitionedQuery<Foo> query = new PartitionedQuery<Foo>(ds, NamedConstructorMapper.forClass(Foo.class),
+                    executor, 4, 0, 20000, "select id, name from partitioned_table where active = ? and id between ? and ?", true);
+            List<Foo> list = query.list(false);
+            assertEquals("Size fail", 5000, list.size());
+            Set<Long> ids = new HashSet<Long>();
+            for(Foo foo : list) {
+                assertEquals("Args fail", 0, foo.id % 2);
+                ids.add(foo.id);
+            }
+            assertEquals("Duplicates fail", 5000, ids.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testForEach() {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            PartitionedQuery<Foo> query = new PartitionedQuery<Foo>(ds, NamedConstructorMapper.forClass(Foo.class),
+                    executor, 4, 1, 10000, "select id, name from partitioned_table where id between ? and ?");
+            final AtomicLong sum = new AtomicLong();
+            query.forEach(new PartitionedQuery.Consumer<Foo>() {
+                @Override
+                public void accept(Foo obj) {
+                    sum.addAndGet(obj.id);
+                }
+            });
+            assertEquals("Sum fail", 10000L * 10001 / 2, sum.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testPlanPerPartition() {
+        final AtomicInteger plans = new AtomicInteger();
+        NamedConstructorMapper<Lockstep> mapper = new NamedConstructorSingleMapper<Lockstep>(
+                NamedConstructorCache.INSTANCE.forClass(Lockstep.class)) {
+            @Override
+            RowPlan<Lockstep> plan(ResultSet rs) throws SQLException {
+                plans.incrementAndGet();
+                return super.plan(rs);
+            }
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // all partitions map rows concurrently, so shared mapper plan cache would be replaced on every row
+            List<Lockstep> list = new PartitionedQuery<Lockstep>(ds, mapper, executor, 4, 1, 400,
+                    "select id from partitioned_table where id between ? and ?").list(false);
+            assertEquals("Size fail", 400, list.size());
+            assertEquals("Plans fail", 4, plans.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = DataAccessException.class)
+    public void testError() {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            new PartitionedQuery<Foo>(ds, NamedConstructorMapper.forClass(Foo.class), executor, 4, 1, 100,
+                    "select id, name from fail_table where id between ? and ?").list(true);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testSplit() {
+        assertArrayEquals("Split fail", new long[]{1, 5, 8, 11}, PartitionedQuery.split(1, 10, 3));
+        assertArrayEquals("Narrow fail", new long[]{5, 6, 7}, PartitionedQuery.split(5, 6, 8));
+        assertArrayEquals("Single fail", new long[]{-3, -2}, PartitionedQuery.split(-3, -3, 4));
+        long[] edge = PartitionedQuery.split(Long.MAX_VALUE - 9, Long.MAX_VALUE, 2);
+        assertEquals("Edge fail", Long.MAX_VALUE, edge[2] - 1);
+        assertEquals("Edge fail", Long.MAX_VALUE - 5, edge[1] - 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidRange() {
+        PartitionedQuery.split(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvertedRange() {
+        PartitionedQuery.split(10, 1, 4);
+    }
+
+    private static class Lockstep {
+        private static final CyclicBarrier BARRIER = new CyclicBarrier(4);
+
+        private Lockstep(@Named("id") long id) throws Exception {
+            BARRIER.await(10, TimeUnit.SECONDS);
+        }
+    }
+
+    private static class Foo {
+        private final long id;
+        private final String name;
+
+        private Foo(@Named("id") long id, @Named("name") String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
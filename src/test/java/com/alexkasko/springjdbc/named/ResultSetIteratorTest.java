@@ -0,0 +1,69 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ResultSetIteratorTest {
+    private static final DriverManagerDataSource ds;
+    private static final JdbcTemplate jt;
+
+    static {
+        ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:iterator_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table iter_table(id int not null, foo varchar(10))");
+        for(int i = 0; i < 10; i++) {
+            jt.update("insert into iter_table(id, foo) values(?, ?)", i, "foo" + i);
+        }
+    }
+
+    private static class Row {
+        private final int id;
+        private final String foo;
+
+        private Row(@Named("id") int id, @Named("foo") String foo) {
+            this.id = id;
+            this.foo = foo;
+        }
+    }
+
+    @Test
+    public void testExhaust() {
+        ResultSetIterator<Row> iter = NamedConstructorMapper.forClass(Row.class)
+                .iterator(ds, 3, "select * from iter_table where id >= ? order by id", 5);
+        List<Row> list = new ArrayList<Row>();
+        while(iter.hasNext()) {
+            list.add(iter.next());
+        }
+        assertEquals("Size fail", 5, list.size());
+        assertEquals("Data fail", 5, list.get(0).id);
+        assertEquals("Data fail", "foo9", list.get(4).foo);
+        assertFalse("Exhaust fail", iter.hasNext());
+        iter.close();
+    }
+
+    @Test
+    public void testClose() {
+        ResultSetIterator<Row> iter = NamedConstructorMapper.forClass(Row.class)
+                .iterator(ds, "select * from iter_table order by id");
+        try {
+            assertTrue("Data fail", iter.hasNext());
+            assertEquals("Data fail", 0, iter.next().id);
+        } finally {
+            iter.close();
+        }
+        assertFalse("Close fail", iter.hasNext());
+    }
+}
@@ -0,0 +1,205 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class ResultSetPublisherTest {
+    private static final DriverManagerDataSource ds;
+
+    static {
+        ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:publisher_test;DB_CLOSE_DELAY=-1");
+        JdbcTemplate jt = new JdbcTemplate(ds);
+        jt.update("create table publisher_table(id int not null, name varchar(255))");
+        for(int i = 0; i < 10; i++) {
+            jt.update("insert into publisher_table(id, name) values(?, ?)", i, "foo" + i);
+        }
+    }
+
+    @Test
+    public void testDemand() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                    NamedConstructorMapper.forClass(Foo.class), executor, 4, "select id, name from publisher_table order by id");
+            RecordingSubscriber sub = new RecordingSubscriber();
+            publisher.subscribe(sub);
+            assertTrue("Subscribe fail", sub.subscribed.await(10, TimeUnit.SECONDS));
+            sub.subscription.request(3);
+            awaitIdle(executor);
+            assertEquals("Demand fail", 3, sub.received().size());
+            assertFalse("Complete fail", sub.completed);
+            sub.subscription.request(100);
+            assertTrue("Complete fail", sub.finished.await(10, TimeUnit.SECONDS));
+            assertTrue("Complete fail", sub.completed);
+            assertNull("Error fail", sub.error);
+            List<Foo> list = sub.received();
+            assertEquals("Size fail", 10, list.size());
+            assertEquals("Order fail", 9, list.get(9).id);
+            assertEquals("Data fail", "foo9", list.get(9).name);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testCancel() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                    NamedConstructorMapper.forClass(Foo.class), executor, 0, "select id, name from publisher_table order by id");
+            RecordingSubscriber sub = new RecordingSubscriber();
+            publisher.subscribe(sub);
+            assertTrue("Subscribe fail", sub.subscribed.await(10, TimeUnit.SECONDS));
+            sub.subscription.request(2);
+            sub.subscription.cancel();
+            sub.subscription.request(5);
+            awaitIdle(executor);
+            assertTrue("Cancel fail", sub.received().size() <= 2);
+            assertFalse("Complete fail", sub.completed);
+            assertNull("Error fail", sub.error);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testInvalidRequest() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                    NamedConstructorMapper.forClass(Foo.class), executor, 0, "select id, name from publisher_table");
+            RecordingSubscriber sub = new RecordingSubscriber();
+            publisher.subscribe(sub);
+            assertTrue("Subscribe fail", sub.subscribed.await(10, TimeUnit.SECONDS));
+            sub.subscription.request(0);
+            assertTrue("Error fail", sub.finished.await(10, TimeUnit.SECONDS));
+            assertTrue("Error fail", sub.error instanceof IllegalArgumentException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testQueryError() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                    NamedConstructorMapper.forClass(Foo.class), executor, 0, "select id, name from fail_table");
+            RecordingSubscriber sub = new RecordingSubscriber();
+            publisher.subscribe(sub);
+            assertTrue("Subscribe fail", sub.subscribed.await(10, TimeUnit.SECONDS));
+            sub.subscription.request(1);
+            assertTrue("Error fail", sub.finished.await(10, TimeUnit.SECONDS));
+            assertTrue("Error fail", sub.error instanceof DataAccessException);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testRejected() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        executor.shutdown();
+        ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                NamedConstructorMapper.forClass(Foo.class), executor, 0, "select id, name from publisher_table");
+        RecordingSubscriber sub = new RecordingSubscriber();
+        publisher.subscribe(sub);
+        assertNotNull("Subscribe fail", sub.subscription);
+        assertTrue("Error fail", sub.error instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void testRejectedAfterComplete() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        ResultSetPublisher<Foo> publisher = new ResultSetPublisher<Foo>(ds,
+                NamedConstructorMapper.forClass(Foo.class), executor, 0, "select id, name from publisher_table");
+        RecordingSubscriber sub = new RecordingSubscriber();
+        publisher.subscribe(sub);
+        assertTrue("Subscribe fail", sub.subscribed.await(10, TimeUnit.SECONDS));
+        sub.subscription.request(100);
+        assertTrue("Complete fail", sub.finished.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue("Shutdown fail", executor.awaitTermination(10, TimeUnit.SECONDS));
+        sub.subscription.request(1);
+        assertTrue("Complete fail", sub.completed);
+        assertNull("Error after complete", sub.error);
+    }
+
+    private static void awaitIdle(ExecutorService executor) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(1);
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                latch.countDown();
+            }
+        });
+        assertTrue("Executor fail", latch.await(10, TimeUnit.SECONDS));
+    }
+
+    private static class RecordingSubscriber implements Subscriber<Foo> {
+        private final CountDownLatch subscribed = new CountDownLatch(1);
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private final List<Foo> received = new ArrayList<Foo>();
+        private volatile Subscription subscription;
+        private volatile boolean completed = false;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            subscribed.countDown();
+        }
+
+        @Override
+        public synchronized void onNext(Foo foo) {
+            received.add(foo);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+            finished.countDown();
+        }
+
+        private synchronized List<Foo> received() {
+            return new ArrayList<Foo>(received);
+        }
+    }
+
+    private static class Foo {
+        private final int id;
+        private final String name;
+
+        private Foo(@Named("id") int id, @Named("name") String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.alexkasko.springjdbc.named;
+
+import org.junit.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.inject.Named;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class SelectListTest {
+    private static final JdbcTemplate jt;
+
+    static {
+        DriverManagerDataSource ds = new DriverManagerDataSource();
+        ds.setDriverClassName("org.h2.Driver");
+        ds.setUrl("jdbc:h2:mem:select_list_test;DB_CLOSE_DELAY=-1");
+        jt = new JdbcTemplate(ds);
+        jt.update("create table select_table(id int, name varchar(255), val int, kind varchar(255), content clob)");
+        jt.update("insert into select_table(id, name, val, kind, content) values(1, 'foo', 42, 'foo', 'large')");
+        jt.update("insert into select_table(id, name, val, kind, content) values(2, 'bar', 43, 'bar', 'large')");
+    }
+
+    @Test
+    public void testSingle() {
+        NamedConstructorMapper<Multiple> mapper = NamedConstructorMapper.forClass(Multiple.class);
+        assertEquals("Names fail", Arrays.asList(Arrays.asList("id", "name", "val"), Arrays.asList("id")),
+                mapper.argumentNames());
+        assertEquals("Columns fail", "id, name, val", mapper.selectList());
+        assertEquals("Alias fail", "t.id, t.name, t.val", mapper.selectList("t"));
+        assertEquals("Prefix fail", "t.id as foo_id, t.name as foo_name, t.val as foo_val", mapper.selectList("t", "foo_"));
+        assertEquals("Constructor fail", "id", NamedConstructorMapper.selectList(mapper.argumentNames().get(1), "", ""));
+        List<Multiple> list = jt.query("select " + mapper.selectList() + " from select_table order by id", mapper);
+        assertEquals("Query fail", 42, list.get(0).val);
+    }
+
+    @Test
+    public void testSubclasses() {
+        NamedConstructorMapper<Parent> mapper = (NamedConstructorMapper<Parent>) NamedConstructorMapper.<Parent>builder("kind")
+                .addSubclass("foo", Foo.class)
+                .addSubclass("bar", Bar.class)
+                .build();
+        assertEquals("Names fail", Arrays.asList(Arrays.asList("id", "name"), Arrays.asList("id", "val")),
+                mapper.argumentNames());
+        assertEquals("Columns fail", "kind, id, name, val", mapper.selectList());
+        List<Parent> list = jt.query("select " + mapper.selectList("s") + " from select_table s order by id", mapper);
+        assertEquals("Query fail", Foo.class, list.get(0).getClass());
+        assertEquals("Query fail", Bar.class, list.get(1).getClass());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testEmpty() {
+        NamedConstructorMapper.selectList(Arrays.<String>asList(), "", "");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testCustomMapper() {
+        NamedConstructorMapper<Integer> mapper = new NamedConstructorMapper<Integer>() {
+            @Override
+            public Integer mapRow(ResultSet rs, int rowNum) throws SQLException {
+                return rs.getInt(1);
+            }
+        };
+        mapper.selectList();
+    }
+
+    private static class Multiple {
+        private final int id;
+        private final String name;
+        private final int val;
+
+        private Multiple(@Named("id") int id) {
+            this(id, "", 0);
+        }
+
+        private Multiple(@Named("id") int id, @Named("name") String name, @Named("val") int val) {
+            this.id = id;
+            this.name = name;
+            this.val = val;
+        }
+    }
+
+    private static abstract class Parent {
+        protected final int id;
+
+        protected Parent(int id) {
+            this.id = id;
+        }
+    }
+
+    private static class Foo extends Parent {
+        private final String name;
+
+        private Foo(@Named("id") int id, @Named("name") String name) {
+            super(id);
+            this.name = name;
+        }
+    }
+
+    private static class Bar extends Parent {
+        private final int val;
+
+        private Bar(@Named("id") int id, @Named("val") int val) {
+            super(id);
+            this.val = val;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.alexkasko.springjdbc.named.registry;
+
+import javax.inject.Named;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class RegisteredBar {
+    public final byte[] data;
+
+    private RegisteredBar(@Named("data") byte[] data) {
+        this.data = data;
+    }
+}
@@ -0,0 +1,26 @@
+package com.alexkasko.springjdbc.named.registry;
+
+import javax.inject.Named;
+
+/**
+ * User: alexkasko
+ * Date: 10/16/26
+ */
+public class RegisteredFoo {
+    public final long id;
+    public final String name;
+
+    public RegisteredFoo(@Named("id") long id, @Named("name") String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    RegisteredFoo(@Named("id") long id) {
+        this(id, null);
+    }
+
+    public static class NotNamed {
+        public NotNamed(long id) {
+        }
+    }
+}